@@ -0,0 +1,425 @@
+package com.pichincha.customerbp;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.util.ApiOperationUtil;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+import com.pichincha.customerbp.util.ScenarioFileUtil;
+import com.pichincha.customerbp.util.ScenarioFileUtil.ScenarioRequest;
+
+public final class LoadTestBenchmark {
+
+	private static final long RANDOM_SEED = 42L;
+	private static final int SEED_CUSTOMERS = 500;
+	private static final long FIRST_CREATED_SEQUENCE = 1_000_000L;
+	private static final int MAX_OUTSTANDING = 10_000;
+	private static final int SIGNIFICANT_DIGITS = 3;
+	private static final double P99_NOISE_FLOOR_MILLIS = 1.0;
+	private static final long MIN_P99_SAMPLES = 200;
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+	private static final String EVENT_STREAM = "text/event-stream";
+	private static final String NDJSON = "application/x-ndjson";
+	private static final Set<String> RESTRICTED_HEADERS = Set.of("authorization", "connection", "content-length",
+			"expect", "host", "upgrade");
+	private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().findAndAddModules().build();
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(1))
+			.build();
+	private final String baseUrl;
+	private final Map<String, Long> seededSequences = new LinkedHashMap<>();
+	private final List<Long> seededIds = new ArrayList<>();
+	private final AtomicLong createdSequence = new AtomicLong(FIRST_CREATED_SEQUENCE);
+
+	private LoadTestBenchmark(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	private static final class OperationStats {
+
+		private final Histogram latencyMicros = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder dropped = new LongAdder();
+	}
+
+	private record MixRequest(String operationId, HttpRequest request) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path resultsFile = Path.of(args[0]);
+		Path baselineFile = Path.of(args[1]);
+		double ratePerSecond = Double.parseDouble(args[2]);
+		Duration warmup = Duration.ofSeconds(Long.parseLong(args[3]));
+		Duration duration = Duration.ofSeconds(Long.parseLong(args[4]));
+		double readRatio = Double.parseDouble(args[5]);
+		double p99Tolerance = Double.parseDouble(args[6]);
+		double errorRateTolerance = Double.parseDouble(args[7]);
+		boolean updateBaseline = Boolean.parseBoolean(args[8]);
+		boolean allowMissingBaseline = Boolean.parseBoolean(args[9]);
+		List<Path> scenarioFiles = Arrays.stream(args, 10, args.length).map(Path::of).toList();
+
+		Map<String, Object> results = new LinkedHashMap<>();
+		Map<String, OperationStats> mixStats;
+		try (ConfigurableApplicationContext context = startApplication()) {
+			LoadTestBenchmark benchmark = new LoadTestBenchmark(
+					"http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+			Map<String, OperationStats> replayStats = new ConcurrentHashMap<>();
+			long replayNanos = benchmark.replay(scenarioFiles, replayStats);
+			benchmark.seed();
+			benchmark.runMix(ratePerSecond, warmup, readRatio, new ConcurrentHashMap<>());
+			mixStats = new ConcurrentHashMap<>();
+			long mixNanos = benchmark.runMix(ratePerSecond, duration, readRatio, mixStats);
+
+			results.put("replay", summary(replayStats, replayNanos));
+			Map<String, Object> mix = new LinkedHashMap<>();
+			mix.put("targetRatePerSecond", ratePerSecond);
+			mix.put("durationSeconds", duration.toSeconds());
+			mix.put("readRatio", readRatio);
+			mix.putAll(summary(mixStats, mixNanos));
+			results.put("mix", mix);
+		}
+
+		Files.createDirectories(resultsFile.getParent());
+		OBJECT_MAPPER.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultsFile.toFile(), results);
+		writeHistograms(resultsFile.getParent(), mixStats);
+		System.out.println(Files.readString(resultsFile));
+
+		if (updateBaseline) {
+			Files.createDirectories(baselineFile.getParent());
+			Files.copy(resultsFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+			System.out.println("Stored load test baseline at " + baselineFile);
+			return;
+		}
+		if (!Files.exists(baselineFile)) {
+			String missing = "No load test baseline at " + baselineFile
+					+ "; run with -PloadTestUpdateBaseline to store one";
+			if (!allowMissingBaseline) {
+				throw new IllegalStateException(missing + " or with -PloadTestAllowMissingBaseline to skip the gate");
+			}
+			System.out.println(missing);
+			return;
+		}
+		List<String> regressions = regressions(OBJECT_MAPPER.readTree(baselineFile.toFile()).path("mix"),
+				OBJECT_MAPPER.valueToTree(results).path("mix"), p99Tolerance, errorRateTolerance);
+		if (!regressions.isEmpty()) {
+			throw new IllegalStateException("Load test regressed against " + baselineFile + ":\n  "
+					+ String.join("\n  ", regressions));
+		}
+		System.out.println("Load test within p99 tolerance " + p99Tolerance + " and error rate tolerance "
+				+ errorRateTolerance + " of " + baselineFile);
+	}
+
+	private static ConfigurableApplicationContext startApplication() {
+		return new SpringApplicationBuilder(OptimusApplication.class)
+				.run("--spring.profiles.active=development",
+						"--server.port=0",
+						"--management.server.port=0",
+						"--spring.r2dbc.url=r2dbc:h2:mem:///loadtest;DB_CLOSE_DELAY=-1",
+						"--customer.password.cost=4",
+						"--customer.admission.enabled=false",
+						"--customer.security.jwt.jwk-set-uri=" + BenchmarkFixtureUtil.jwkSetUri(),
+						"--logging.level.root=WARN");
+	}
+
+	private long replay(List<Path> scenarioFiles, Map<String, OperationStats> stats) throws IOException {
+		long startedAt = System.nanoTime();
+		for (Path scenarioFile : scenarioFiles) {
+			for (ScenarioRequest scenario : ScenarioFileUtil.read(scenarioFile)) {
+				if (scenario.headers().getOrDefault(HttpHeaders.ACCEPT, "").contains(EVENT_STREAM)) {
+					System.out.println("replay " + scenario.source() + " " + scenario.method() + " "
+							+ scenario.path() + " skipped: long-lived event stream");
+					continue;
+				}
+				String operationId = ApiOperationUtil.operationId(scenario.method(), scenario.path());
+				HttpRequest request = replayRequest(scenario);
+				long sentAt = System.nanoTime();
+				int status;
+				try {
+					status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+				} catch (IOException | InterruptedException e) {
+					status = -1;
+				}
+				record(stats, operationId, sentAt, status >= 0 && status < 500);
+				System.out.println("replay " + scenario.source() + " " + scenario.method() + " " + scenario.path()
+						+ " -> " + status);
+			}
+		}
+		return System.nanoTime() - startedAt;
+	}
+
+	private HttpRequest replayRequest(ScenarioRequest scenario) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path()))
+				.timeout(REQUEST_TIMEOUT)
+				.method(scenario.method(), scenario.body() == null ? HttpRequest.BodyPublishers.noBody()
+						: HttpRequest.BodyPublishers.ofString(scenario.body()));
+		scenario.headers().forEach((name, value) -> {
+			if (!RESTRICTED_HEADERS.contains(name.toLowerCase())) {
+				builder.header(name, value);
+			}
+		});
+		if (scenario.authenticated()) {
+			builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + BenchmarkFixtureUtil.bearerToken());
+		}
+		return builder.build();
+	}
+
+	private void seed() throws IOException, InterruptedException {
+		List<Customer> customers = LongStream.range(0, SEED_CUSTOMERS)
+				.mapToObj(BenchmarkFixtureUtil::customer)
+				.toList();
+		StringBuilder body = new StringBuilder();
+		for (int sequence = 0; sequence < customers.size(); sequence++) {
+			body.append(OBJECT_MAPPER.writeValueAsString(customers.get(sequence))).append('\n');
+			seededSequences.put(customers.get(sequence).getIdentification(), (long) sequence);
+		}
+		HttpResponse<Void> created = httpClient.send(authenticated("/customers/bulk")
+				.header("Content-Type", NDJSON)
+				.header("Accept", NDJSON)
+				.POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+				.build(), HttpResponse.BodyHandlers.discarding());
+		if (created.statusCode() >= 300) {
+			throw new IllegalStateException("Seeding customers failed with status " + created.statusCode());
+		}
+		HttpResponse<Stream<String>> listed = httpClient.send(authenticated("/customers")
+				.header("Accept", NDJSON)
+				.GET()
+				.build(), HttpResponse.BodyHandlers.ofLines());
+		listed.body().map(this::readTree)
+				.filter(customer -> seededSequences.containsKey(customer.path("identification").asText()))
+				.forEach(customer -> seededIds.add(customer.path("customerId").asLong()));
+		if (seededIds.size() != SEED_CUSTOMERS) {
+			throw new IllegalStateException("Expected " + SEED_CUSTOMERS + " seeded customers but found "
+					+ seededIds.size());
+		}
+	}
+
+	private long runMix(double ratePerSecond, Duration duration, double readRatio,
+			Map<String, OperationStats> stats) throws InterruptedException {
+		SplittableRandom random = new SplittableRandom(RANDOM_SEED);
+		AtomicInteger outstanding = new AtomicInteger();
+		double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+		long startedAt = System.nanoTime();
+		long endsAt = startedAt + duration.toNanos();
+		long intendedAt = startedAt;
+		while (true) {
+			intendedAt += (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos);
+			if (intendedAt >= endsAt) {
+				break;
+			}
+			long delay = intendedAt - System.nanoTime();
+			if (delay > 0) {
+				LockSupport.parkNanos(delay);
+			}
+			MixRequest mixRequest = nextMixRequest(random, readRatio);
+			if (outstanding.get() >= MAX_OUTSTANDING) {
+				operationStats(stats, mixRequest.operationId()).dropped.increment();
+				continue;
+			}
+			long scheduledAt = intendedAt;
+			outstanding.incrementAndGet();
+			httpClient.sendAsync(mixRequest.request(), HttpResponse.BodyHandlers.discarding())
+					.whenComplete((response, error) -> {
+						record(stats, mixRequest.operationId(), scheduledAt,
+								error == null && response.statusCode() < 400);
+						outstanding.decrementAndGet();
+					});
+		}
+		long drainDeadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+		while (outstanding.get() > 0 && System.nanoTime() < drainDeadline) {
+			Thread.sleep(10);
+		}
+		return System.nanoTime() - startedAt;
+	}
+
+	private MixRequest nextMixRequest(SplittableRandom random, double readRatio) {
+		int seeded = random.nextInt(SEED_CUSTOMERS);
+		long customerId = seededIds.get(seeded);
+		if (random.nextDouble() < readRatio) {
+			double pick = random.nextDouble();
+			if (pick < 0.6) {
+				return mixRequest("GET", "/customers/" + customerId, authenticated("/customers/" + customerId)
+						.GET());
+			}
+			if (pick < 0.75) {
+				return mixRequest("GET", "/customers?limit=20", authenticated("/customers?limit=20").GET());
+			}
+			if (pick < 0.9) {
+				String search = "/customers/search?active=true&minAge=25&maxAge=40&fields=customerId,fullName,age";
+				return mixRequest("GET", search, authenticated(search).GET());
+			}
+			String identification = BenchmarkFixtureUtil.customer(seeded).getIdentification();
+			String byIdentification = "/customers/by-identification/" + identification;
+			return mixRequest("GET", byIdentification, authenticated(byIdentification).GET());
+		}
+		if (random.nextBoolean()) {
+			Customer customer = BenchmarkFixtureUtil.customer(createdSequence.incrementAndGet());
+			return mixRequest("POST", "/customers", authenticated("/customers")
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(writeValueAsString(customer))));
+		}
+		Customer customer = BenchmarkFixtureUtil.customer(seeded).fullName("Load Test Customer " + seeded);
+		return mixRequest("PUT", "/customers/" + customerId, authenticated("/customers/" + customerId)
+				.header("Content-Type", "application/json")
+				.header("If-Match", "*")
+				.PUT(HttpRequest.BodyPublishers.ofString(writeValueAsString(customer))));
+	}
+
+	private MixRequest mixRequest(String method, String path, HttpRequest.Builder builder) {
+		return new MixRequest(ApiOperationUtil.operationId(method, path), builder.build());
+	}
+
+	private HttpRequest.Builder authenticated(String path) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+		HttpHeaders headers = new HttpHeaders();
+		BenchmarkFixtureUtil.channelHeaders(headers);
+		headers.forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+		return builder;
+	}
+
+	private static void record(Map<String, OperationStats> stats, String operationId, long scheduledAt,
+			boolean successful) {
+		OperationStats operationStats = operationStats(stats, operationId);
+		operationStats.latencyMicros.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledAt));
+		if (!successful) {
+			operationStats.errors.increment();
+		}
+	}
+
+	private static OperationStats operationStats(Map<String, OperationStats> stats, String operationId) {
+		return stats.computeIfAbsent(operationId, key -> new OperationStats());
+	}
+
+	private static Map<String, Object> summary(Map<String, OperationStats> stats, long elapsedNanos) {
+		double elapsedSeconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+		Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+		long totalErrors = 0;
+		long totalDropped = 0;
+		Map<String, Object> operations = new TreeMap<>();
+		for (Map.Entry<String, OperationStats> entry : stats.entrySet()) {
+			Histogram latency = entry.getValue().latencyMicros.copy();
+			long errors = entry.getValue().errors.sum();
+			long dropped = entry.getValue().dropped.sum();
+			total.add(latency);
+			totalErrors += errors;
+			totalDropped += dropped;
+			operations.put(entry.getKey(), operationSummary(latency, errors, dropped, elapsedSeconds));
+		}
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("elapsedSeconds", elapsedSeconds);
+		summary.put("total", operationSummary(total, totalErrors, totalDropped, elapsedSeconds));
+		summary.put("operations", operations);
+		return summary;
+	}
+
+	private static Map<String, Object> operationSummary(Histogram latency, long errors, long dropped,
+			double elapsedSeconds) {
+		long attempted = latency.getTotalCount() + dropped;
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("count", latency.getTotalCount());
+		summary.put("errors", errors);
+		summary.put("dropped", dropped);
+		summary.put("errorRate", attempted == 0 ? 0.0 : (errors + dropped) / (double) attempted);
+		summary.put("throughputPerSecond", (latency.getTotalCount() - errors) / elapsedSeconds);
+		summary.put("p50Millis", millis(latency.getValueAtPercentile(50.0)));
+		summary.put("p90Millis", millis(latency.getValueAtPercentile(90.0)));
+		summary.put("p99Millis", millis(latency.getValueAtPercentile(99.0)));
+		summary.put("p999Millis", millis(latency.getValueAtPercentile(99.9)));
+		summary.put("maxMillis", millis(latency.getMaxValue()));
+		return summary;
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private static void writeHistograms(Path directory, Map<String, OperationStats> stats) throws IOException {
+		for (Map.Entry<String, OperationStats> entry : stats.entrySet()) {
+			try (PrintStream output = new PrintStream(Files.newOutputStream(
+					directory.resolve(entry.getKey() + ".hgrm")))) {
+				entry.getValue().latencyMicros.outputPercentileDistribution(output, 1000.0);
+			}
+		}
+	}
+
+	private static List<String> regressions(JsonNode baseline, JsonNode current, double p99Tolerance,
+			double errorRateTolerance) {
+		Map<String, JsonNode> gated = new LinkedHashMap<>();
+		gated.put("total", baseline.path("total"));
+		baseline.path("operations").fields().forEachRemaining(entry -> gated.put(entry.getKey(), entry.getValue()));
+		List<String> regressions = new ArrayList<>();
+		gated.forEach((name, expected) -> {
+			JsonNode actual = "total".equals(name) ? current.path("total") : current.path("operations").path(name);
+			if (actual.isMissingNode()) {
+				regressions.add(name + ": missing from this run");
+				return;
+			}
+			double expectedP99 = expected.path("p99Millis").asDouble();
+			double actualP99 = actual.path("p99Millis").asDouble();
+			if (expected.path("count").asLong() >= MIN_P99_SAMPLES && actualP99 > expectedP99 * (1 + p99Tolerance)
+					&& actualP99 - expectedP99 > P99_NOISE_FLOOR_MILLIS) {
+				regressions.add(name + ": p99 " + actualP99 + " ms vs baseline " + expectedP99 + " ms");
+			}
+			double expectedErrorRate = expected.path("errorRate").asDouble();
+			double actualErrorRate = actual.path("errorRate").asDouble();
+			if (actualErrorRate > expectedErrorRate + errorRateTolerance) {
+				regressions.add(name + ": error rate " + actualErrorRate + " vs baseline " + expectedErrorRate);
+			}
+		});
+		return regressions;
+	}
+
+	private JsonNode readTree(String json) {
+		try {
+			return OBJECT_MAPPER.readTree(json);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String writeValueAsString(Customer customer) {
+		try {
+			return OBJECT_MAPPER.writeValueAsString(customer);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package com.pichincha.customerbp;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+
+public final class StartupBenchmark {
+
+	private static final Duration READY_TIMEOUT = Duration.ofMinutes(2);
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(1))
+			.build();
+	private final String javaExecutable = ProcessHandle.current().info().command().orElse("java");
+	private final Path applicationJar;
+
+	private StartupBenchmark(Path applicationJar) {
+		this.applicationJar = applicationJar;
+	}
+
+	public static void main(String[] args) throws Exception {
+		Path applicationJar = Path.of(args[0]);
+		String sharedArchive = "-XX:SharedArchiveFile=" + args[1];
+		int runs = Integer.parseInt(args[2]);
+		boolean aot = Boolean.parseBoolean(args[3]);
+		Path resultsFile = Path.of(args[4]);
+
+		Map<String, List<String>> modes = new LinkedHashMap<>();
+		modes.put("baseline", List.of());
+		modes.put("cds", List.of(sharedArchive));
+		if (aot) {
+			modes.put("cds-aot", List.of(sharedArchive, "-Dspring.aot.enabled=true"));
+		}
+
+		StartupBenchmark benchmark = new StartupBenchmark(applicationJar);
+		Map<String, Object> results = new LinkedHashMap<>();
+		for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+			results.put(mode.getKey(), benchmark.measure(mode.getValue(), runs));
+		}
+		Files.createDirectories(resultsFile.getParent());
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(resultsFile.toFile(), results);
+		System.out.println(Files.readString(resultsFile));
+	}
+
+	private Map<String, Object> measure(List<String> jvmArgs, int runs) throws Exception {
+		List<Long> readyMillis = new ArrayList<>();
+		List<Long> firstRequestMillis = new ArrayList<>();
+		for (int run = 0; run < runs; run++) {
+			long[] sample = startOnce(jvmArgs);
+			readyMillis.add(sample[0]);
+			firstRequestMillis.add(sample[1]);
+		}
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("jvmArgs", jvmArgs);
+		result.put("readyMillis", summary(readyMillis));
+		result.put("firstRequestMillis", summary(firstRequestMillis));
+		return result;
+	}
+
+	private long[] startOnce(List<String> jvmArgs) throws Exception {
+		int port = freePort();
+		int managementPort = freePort();
+		List<String> command = new ArrayList<>();
+		command.add(javaExecutable);
+		command.addAll(jvmArgs);
+		command.addAll(List.of("-jar", applicationJar.toString(),
+				"--server.port=" + port,
+				"--management.server.port=" + managementPort,
+				"--spring.profiles.active=development",
+				"--spring.r2dbc.url=r2dbc:h2:mem:///startup;DB_CLOSE_DELAY=-1",
+				"--customer.security.jwt.jwk-set-uri=" + BenchmarkFixtureUtil.jwkSetUri()));
+		long startedAt = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+				.directory(applicationJar.getParent().toFile())
+				.redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.start();
+		try {
+			awaitReady(managementPort, process);
+			long readyAt = System.nanoTime();
+			HttpResponse<Void> response = httpClient.send(customerRequest(port),
+					HttpResponse.BodyHandlers.discarding());
+			long answeredAt = System.nanoTime();
+			if (response.statusCode() != 200) {
+				throw new IllegalStateException("First request failed with status " + response.statusCode());
+			}
+			return new long[] { Duration.ofNanos(readyAt - startedAt).toMillis(),
+					Duration.ofNanos(answeredAt - readyAt).toMillis() };
+		} finally {
+			process.destroy();
+			process.waitFor();
+		}
+	}
+
+	private void awaitReady(int managementPort, Process process) throws InterruptedException {
+		HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + managementPort + "/actuator/health"))
+				.GET()
+				.build();
+		long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+		while (System.nanoTime() < deadline) {
+			if (!process.isAlive()) {
+				throw new IllegalStateException("Application exited with code " + process.exitValue());
+			}
+			try {
+				if (httpClient.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+					return;
+				}
+			} catch (IOException e) {
+				Thread.sleep(POLL_INTERVAL.toMillis());
+			}
+		}
+		throw new IllegalStateException("Application not ready after " + READY_TIMEOUT);
+	}
+
+	private HttpRequest customerRequest(int port) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/customers/1"))
+				.header("Authorization", "Bearer " + BenchmarkFixtureUtil.bearerToken())
+				.header("x-guid", "550e8400-e29b-41d4-a716-446655440000")
+				.header("x-channel", "01")
+				.header("x-medium", "02")
+				.header("x-app", "12345")
+				.header("x-session", "benchmark-session")
+				.GET()
+				.build();
+	}
+
+	private Map<String, Object> summary(List<Long> samples) {
+		LongSummaryStatistics statistics = samples.stream().mapToLong(Long::longValue).summaryStatistics();
+		List<Long> sorted = samples.stream().sorted().toList();
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("samples", samples);
+		summary.put("min", statistics.getMin());
+		summary.put("median", sorted.get(sorted.size() / 2));
+		summary.put("max", statistics.getMax());
+		summary.put("mean", statistics.getAverage());
+		return summary;
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
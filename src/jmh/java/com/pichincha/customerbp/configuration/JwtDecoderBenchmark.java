@@ -0,0 +1,57 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import com.pichincha.customerbp.helper.JwkSetHelper;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtDecoderBenchmark {
+
+	@Param({ "0", "10000" })
+	public long cacheMaximumSize;
+
+	private final String token = BenchmarkFixtureUtil.bearerToken();
+	private SimpleMeterRegistry meterRegistry;
+	private ReactiveJwtDecoder jwtDecoder;
+
+	@Setup
+	public void createDecoder() {
+		JwtVerificationProperties jwtProperties = new JwtVerificationProperties(BenchmarkFixtureUtil.jwkSetUri(),
+				Duration.ofMinutes(5), Duration.ofSeconds(30), List.of("RS256"), null, null, Duration.ofSeconds(60),
+				cacheMaximumSize, Duration.ofMinutes(15));
+		meterRegistry = new SimpleMeterRegistry();
+		jwtDecoder = new SecurityConfig().jwtDecoder(jwtProperties,
+				new JwkSetHelper(jwtProperties, new DefaultResourceLoader()), meterRegistry);
+		jwtDecoder.decode(token).block();
+	}
+
+	@TearDown
+	public void closeRegistry() {
+		meterRegistry.close();
+	}
+
+	@Benchmark
+	public Jwt decode() {
+		return jwtDecoder.decode(token).block();
+	}
+}
@@ -0,0 +1,98 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pichincha.customerbp.util.ChannelHeaderUtil;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import jakarta.validation.executable.ExecutableValidator;
+import reactor.core.publisher.Mono;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChannelHeaderValidationBenchmark {
+
+	private static final String GUID = "550e8400-e29b-41d4-a716-446655440000";
+	private static final String CHANNEL = "01";
+	private static final String MEDIUM = "02";
+	private static final String APP = "12345";
+	private static final String SESSION = "benchmark-session";
+
+	private final ChannelHeaderWebFilter filter = new ChannelHeaderWebFilter();
+	private final WebFilterChain chain = exchange -> Mono.empty();
+	private final HeaderConstraints target = new HeaderConstraints();
+	private final Object[] arguments = { GUID, CHANNEL, MEDIUM, APP, SESSION };
+	private ValidatorFactory validatorFactory;
+	private ExecutableValidator validator;
+	private Method headerMethod;
+	private MockServerWebExchange exchange;
+
+	public static class HeaderConstraints {
+
+		public void headers(
+				@NotNull @Pattern(regexp = "^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$") @Size(max = 60) String xGuid,
+				@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xChannel,
+				@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xMedium,
+				@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 5) String xApp,
+				@NotNull @Size(max = 100) String xSession) {
+		}
+	}
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator().forExecutables();
+		headerMethod = HeaderConstraints.class.getMethod("headers", String.class, String.class, String.class,
+				String.class, String.class);
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/customers/1")
+				.header("x-guid", GUID)
+				.header("x-channel", CHANNEL)
+				.header("x-medium", MEDIUM)
+				.header("x-app", APP)
+				.header("x-session", SESSION));
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<HeaderConstraints>> beanValidation() {
+		return validator.validateParameters(target, headerMethod, arguments);
+	}
+
+	@Benchmark
+	public boolean handWrittenParsers() {
+		return ChannelHeaderUtil.isGuid(GUID)
+				&& ChannelHeaderUtil.isDigits(CHANNEL, 2)
+				&& ChannelHeaderUtil.isDigits(MEDIUM, 2)
+				&& ChannelHeaderUtil.isDigits(APP, 5)
+				&& ChannelHeaderUtil.isWithinLength(SESSION, 100);
+	}
+
+	@Benchmark
+	public Void webFilter() {
+		return filter.filter(exchange, chain).block();
+	}
+}
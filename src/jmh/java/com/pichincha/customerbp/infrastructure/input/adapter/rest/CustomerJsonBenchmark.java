@@ -0,0 +1,101 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+
+import reactor.core.publisher.Flux;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CustomerJsonBenchmark {
+
+	private static final ResolvableType CUSTOMER_TYPE = ResolvableType.forClass(Customer.class);
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+	private Customer customer;
+	private byte[] customerJson;
+
+	@State(Scope.Benchmark)
+	public static class CustomerArrayState {
+
+		@Param({ "100", "10000" })
+		public int size;
+
+		public List<Customer> customers;
+		public byte[] customersJson;
+		public Jackson2JsonEncoder encoder;
+		public Jackson2JsonDecoder decoder;
+
+		@Setup
+		public void setUp() throws IOException {
+			ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+			customers = BenchmarkFixtureUtil.customers(size);
+			customersJson = objectMapper.writeValueAsBytes(customers);
+			encoder = new Jackson2JsonEncoder(objectMapper);
+			decoder = new Jackson2JsonDecoder(objectMapper);
+		}
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		customer = BenchmarkFixtureUtil.customer(1);
+		customerJson = objectMapper.writeValueAsBytes(customer);
+	}
+
+	@Benchmark
+	public byte[] encodeCustomer() throws IOException {
+		return objectMapper.writeValueAsBytes(customer);
+	}
+
+	@Benchmark
+	public Customer decodeCustomer() throws IOException {
+		return objectMapper.readValue(customerJson, Customer.class);
+	}
+
+	@Benchmark
+	public Long encodeCustomerFlux(CustomerArrayState state) {
+		return state.encoder.encode(Flux.fromIterable(state.customers),
+				DefaultDataBufferFactory.sharedInstance, CUSTOMER_TYPE, MediaType.APPLICATION_JSON, Map.of())
+				.map(this::releaseAndCount)
+				.reduce(0L, Long::sum)
+				.block();
+	}
+
+	@Benchmark
+	public Long decodeCustomerFlux(CustomerArrayState state) {
+		DataBuffer body = DefaultDataBufferFactory.sharedInstance.wrap(state.customersJson);
+		return state.decoder.decode(Flux.just(body), CUSTOMER_TYPE, MediaType.APPLICATION_JSON, Map.of())
+				.count()
+				.block();
+	}
+
+	private long releaseAndCount(DataBuffer buffer) {
+		long bytes = buffer.readableByteCount();
+		DataBufferUtils.release(buffer);
+		return bytes;
+	}
+}
@@ -0,0 +1,82 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.pichincha.customerbp.OptimusApplication;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CustomerPipelineBenchmark {
+
+	private static final long FIRST_CREATED_SEQUENCE = 100_000L;
+
+	@Param({ "true", "false" })
+	public boolean cacheEnabled;
+
+	private final AtomicLong createdSequence = new AtomicLong(FIRST_CREATED_SEQUENCE);
+	private ConfigurableApplicationContext context;
+	private WebTestClient client;
+
+	@Setup
+	public void startApplication() {
+		context = new SpringApplicationBuilder(OptimusApplication.class)
+				.run("--spring.profiles.active=development",
+						"--server.port=0",
+						"--management.server.port=0",
+						"--spring.r2dbc.url=r2dbc:h2:mem:///benchmark;DB_CLOSE_DELAY=-1",
+						"--customer.cache.enabled=" + cacheEnabled,
+						"--customer.password.cost=4",
+						"--customer.admission.enabled=false",
+						"--customer.security.jwt.jwk-set-uri=" + BenchmarkFixtureUtil.jwkSetUri(),
+						"--logging.level.root=WARN");
+		client = WebTestClient.bindToApplicationContext(context)
+				.configureClient()
+				.defaultHeaders(BenchmarkFixtureUtil::channelHeaders)
+				.build();
+	}
+
+	@TearDown
+	public void stopApplication() {
+		context.close();
+	}
+
+	@Benchmark
+	public byte[] getCustomerById() {
+		return client.get().uri("/customers/1").exchange()
+				.expectStatus().isOk()
+				.expectBody().returnResult().getResponseBody();
+	}
+
+	@Benchmark
+	public byte[] getCustomerPage() {
+		return client.get().uri("/customers?limit=50").exchange()
+				.expectStatus().isOk()
+				.expectBody().returnResult().getResponseBody();
+	}
+
+	@Benchmark
+	public byte[] createCustomer() {
+		return client.post().uri("/customers").contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(BenchmarkFixtureUtil.customer(createdSequence.incrementAndGet()))
+				.exchange()
+				.expectStatus().isCreated()
+				.expectBody().returnResult().getResponseBody();
+	}
+}
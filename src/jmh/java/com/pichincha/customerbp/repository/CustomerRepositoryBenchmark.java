@@ -0,0 +1,193 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange.TypeEnum;
+import com.pichincha.customerbp.OptimusApplication;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerField;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+import com.pichincha.customerbp.helper.CustomerOutboxHelper;
+import com.pichincha.customerbp.service.mapper.CustomerMapper;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+import com.pichincha.customerbp.util.TimestampUtil;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import reactor.core.scheduler.Schedulers;
+
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+@Fork(jvmArgsAppend = "-Djdk.virtualThreadScheduler.parallelism=4")
+public class CustomerRepositoryBenchmark {
+
+	private static final int SEEDED_CUSTOMERS = 5_000;
+	private static final int PAGE_SIZE = 50;
+	private static final int POOL_SIZE = 10;
+	private static final int BATCH_SIZE = 20;
+	private static final String TRUNCATE_OUTBOX = "TRUNCATE TABLE customer_outbox";
+	private static final String TRUNCATE_CUSTOMERS = "TRUNCATE TABLE customer RESTART IDENTITY";
+	private static final CustomerSearchCriteria ACTIVE_ADULTS =
+			new CustomerSearchCriteria(true, 18, 40, null, null, null);
+	private static final Collection<String> SEARCH_COLUMNS =
+			CustomerField.columns(CustomerField.parse("customerId,fullName,age,email"));
+
+	@Param({ "r2dbc", "jdbc" })
+	public String adapter;
+
+	private ConfigurableApplicationContext context;
+	private CustomerRepository customerRepository;
+	private CustomerOutboxHelper customerOutboxHelper;
+	private CustomerMapper customerMapper;
+	private TransactionalOperator transactionalOperator;
+	private DatabaseClient databaseClient;
+	private final AtomicLong nextSequence = new AtomicLong(SEEDED_CUSTOMERS);
+	private long maxCustomerId;
+
+	@Setup
+	public void startApplication() {
+		context = new SpringApplicationBuilder(OptimusApplication.class)
+				.initializers(application -> application.getBeanFactory()
+						.addBeanPostProcessor(new ScheduledDeliveryPoolPostProcessor()))
+				.run("--spring.profiles.active=development",
+						"--server.port=0",
+						"--management.server.port=0",
+						"--spring.r2dbc.url=r2dbc:h2:mem:///repository;DB_CLOSE_DELAY=-1",
+						"--customer.persistence.adapter=" + adapter,
+						"--customer.persistence.jdbc.url=jdbc:h2:mem:repository;DB_CLOSE_DELAY=-1",
+						"--customer.persistence.jdbc.maximum-pool-size=" + POOL_SIZE,
+						"--customer.admission.enabled=false",
+						"--customer.security.jwt.jwk-set-uri=" + BenchmarkFixtureUtil.jwkSetUri(),
+						"--logging.level.root=WARN",
+						"--logging.level.io.r2dbc.h2=ERROR");
+		customerRepository = context.getBean(CustomerRepository.class);
+		customerOutboxHelper = context.getBean(CustomerOutboxHelper.class);
+		customerMapper = context.getBean(CustomerMapper.class);
+		transactionalOperator = context.getBean(TransactionalOperator.class);
+		databaseClient = context.getBean(DatabaseClient.class);
+	}
+
+	@Setup(Level.Iteration)
+	public void resetCustomers() {
+		databaseClient.sql(TRUNCATE_OUTBOX).then()
+				.then(databaseClient.sql(TRUNCATE_CUSTOMERS).then())
+				.block();
+		nextSequence.set(SEEDED_CUSTOMERS);
+		List<CustomerEntity> customers = BenchmarkFixtureUtil.customers(SEEDED_CUSTOMERS).stream()
+				.map(customer -> withTimestamps(customerMapper.toEntity(customer)))
+				.toList();
+		maxCustomerId = customerRepository.insertBatch(customers).reduce(Math::max).block();
+	}
+
+	@TearDown
+	public void stopApplication() {
+		context.close();
+	}
+
+	@Benchmark
+	public CustomerEntity findById() {
+		return customerRepository.findById(randomCustomerId()).block();
+	}
+
+	@Benchmark
+	public List<CustomerEntity> findPageAfter() {
+		return customerRepository.findPageAfter(randomCustomerId(), PAGE_SIZE).collectList().block();
+	}
+
+	@Benchmark
+	public List<CustomerEntity> search() {
+		return customerRepository.search(ACTIVE_ADULTS, SEARCH_COLUMNS, randomCustomerId(), PAGE_SIZE)
+				.collectList()
+				.block();
+	}
+
+	@Benchmark
+	public CustomerEntity createWithOutbox() {
+		return customerRepository.save(newCustomer())
+				.flatMap(customer -> customerOutboxHelper.recordChange(TypeEnum.CREATED, customer))
+				.as(transactionalOperator::transactional)
+				.block();
+	}
+
+	@Benchmark
+	public CustomerEntity updateWithOutbox() {
+		return customerRepository.findById(randomCustomerId())
+				.flatMap(customer -> {
+					customer.setUpdatedAt(TimestampUtil.now());
+					return customerRepository.updateReturning(customer);
+				})
+				.flatMap(customer -> customerOutboxHelper.recordChange(TypeEnum.UPDATED, customer))
+				.as(transactionalOperator::transactional)
+				.block();
+	}
+
+	@Benchmark
+	public List<Long> insertBatchWithOutbox() {
+		List<CustomerEntity> customers = Stream.generate(this::newCustomer).limit(BATCH_SIZE).toList();
+		return customerRepository.insertBatch(customers)
+				.collectList()
+				.flatMap(ids -> {
+					for (int i = 0; i < ids.size(); i++) {
+						customers.get(i).setCustomerId(ids.get(i));
+					}
+					return customerOutboxHelper.recordCreations(customers).thenReturn(ids);
+				})
+				.as(transactionalOperator::transactional)
+				.block();
+	}
+
+	private CustomerEntity newCustomer() {
+		return withTimestamps(customerMapper.toEntity(
+				BenchmarkFixtureUtil.customer(nextSequence.getAndIncrement())));
+	}
+
+	private static CustomerEntity withTimestamps(CustomerEntity customer) {
+		customer.setCreatedAt(TimestampUtil.now());
+		customer.setUpdatedAt(customer.getCreatedAt());
+		return customer;
+	}
+
+	private long randomCustomerId() {
+		return ThreadLocalRandom.current().nextLong(1, maxCustomerId + 1);
+	}
+
+	private static final class ScheduledDeliveryPoolPostProcessor implements BeanPostProcessor {
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (!(bean instanceof ConnectionPool pool)) {
+				return bean;
+			}
+			pool.dispose();
+			return new ConnectionPool(ConnectionPoolConfiguration.builder(pool.unwrap())
+					.maxSize(POOL_SIZE)
+					.customizer(builder -> builder.acquisitionScheduler(Schedulers.boundedElastic()))
+					.build());
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package com.pichincha.customerbp.service.mapper;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.util.BenchmarkFixtureUtil;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CustomerMapperBenchmark {
+
+	private final CustomerMapper customerMapper = new CustomerMapperImpl();
+	private Customer customer;
+	private CustomerEntity entity;
+
+	@Setup
+	public void setUp() {
+		customer = BenchmarkFixtureUtil.customer(1);
+		entity = customerMapper.toEntity(customer);
+		entity.setCustomerId(1L);
+		entity.setVersion(0L);
+	}
+
+	@Benchmark
+	public Customer toDto() {
+		return customerMapper.toDto(entity);
+	}
+
+	@Benchmark
+	public CustomerEntity toEntity() {
+		return customerMapper.toEntity(customer);
+	}
+
+	@Benchmark
+	public CustomerEntity updateEntityFromRequest() {
+		CustomerEntity target = new CustomerEntity();
+		customerMapper.updateEntityFromRequest(customer, target);
+		return target;
+	}
+}
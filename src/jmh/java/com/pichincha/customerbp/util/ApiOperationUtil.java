@@ -0,0 +1,57 @@
+package com.pichincha.customerbp.util;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.CustomersApi;
+
+import io.swagger.v3.oas.annotations.Operation;
+
+public final class ApiOperationUtil {
+
+	private static final List<OperationRoute> ROUTES = customersApiRoutes();
+
+	private ApiOperationUtil() {
+	}
+
+	private record OperationRoute(RequestMethod method, PathPattern pattern, String operationId) {
+	}
+
+	public static String operationId(String method, String pathAndQuery) {
+		int query = pathAndQuery.indexOf('?');
+		PathContainer path = PathContainer.parsePath(query < 0 ? pathAndQuery : pathAndQuery.substring(0, query));
+		return ROUTES.stream()
+				.filter(route -> route.method().name().equals(method) && route.pattern().matches(path))
+				.map(OperationRoute::operationId)
+				.findFirst()
+				.orElse(method + " " + path.value());
+	}
+
+	private static List<OperationRoute> customersApiRoutes() {
+		List<OperationRoute> routes = new ArrayList<>();
+		for (Method method : CustomersApi.class.getMethods()) {
+			RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+			Operation operation = method.getAnnotation(Operation.class);
+			if (mapping == null || operation == null) {
+				continue;
+			}
+			for (String value : mapping.value()) {
+				for (RequestMethod requestMethod : mapping.method()) {
+					routes.add(new OperationRoute(requestMethod, PathPatternParser.defaultInstance.parse(value),
+							operation.operationId()));
+				}
+			}
+		}
+		routes.sort(Comparator.comparing(OperationRoute::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+		return List.copyOf(routes);
+	}
+}
@@ -0,0 +1,108 @@
+package com.pichincha.customerbp.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.springframework.http.HttpHeaders;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+
+public final class BenchmarkFixtureUtil {
+
+	private static final long IDENTIFICATION_BASE = 2_000_000_000L;
+	private static final Duration TOKEN_LIFETIME = Duration.ofHours(4);
+	private static final RSAKey SIGNING_KEY = signingKey();
+	private static final String JWK_SET_URI = writeJwkSet();
+	private static final String BEARER_TOKEN = bearerToken("benchmark-user");
+
+	private BenchmarkFixtureUtil() {
+	}
+
+	public static Customer customer(long sequence) {
+		return new Customer()
+				.fullName("Benchmark Customer " + sequence)
+				.gender("Female")
+				.age(30)
+				.identification(String.valueOf(IDENTIFICATION_BASE + sequence))
+				.address("Av. Amazonas N34-120 y Av. Naciones Unidas")
+				.celular("0991234567")
+				.email("customer" + sequence + "@example.com")
+				.password("benchmark-password")
+				.active(true);
+	}
+
+	public static List<Customer> customers(int size) {
+		return LongStream.range(0, size).mapToObj(BenchmarkFixtureUtil::customer).toList();
+	}
+
+	public static void channelHeaders(HttpHeaders headers) {
+		headers.setBearerAuth(BEARER_TOKEN);
+		headers.set("x-guid", "550e8400-e29b-41d4-a716-446655440000");
+		headers.set("x-channel", "01");
+		headers.set("x-medium", "02");
+		headers.set("x-app", "12345");
+		headers.set("x-session", "benchmark-session");
+	}
+
+	public static String jwkSetUri() {
+		return JWK_SET_URI;
+	}
+
+	public static String bearerToken() {
+		return BEARER_TOKEN;
+	}
+
+	public static String bearerToken(String subject) {
+		Instant issuedAt = Instant.now();
+		JWTClaimsSet claims = new JWTClaimsSet.Builder()
+				.subject(subject)
+				.claim("scope", "read write")
+				.claim("roles", List.of("ROLE_USER"))
+				.issueTime(Date.from(issuedAt))
+				.expirationTime(Date.from(issuedAt.plus(TOKEN_LIFETIME)))
+				.build();
+		SignedJWT signedJwt = new SignedJWT(
+				new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(SIGNING_KEY.getKeyID()).build(), claims);
+		try {
+			signedJwt.sign(new RSASSASigner(SIGNING_KEY));
+		} catch (JOSEException e) {
+			throw new IllegalStateException(e);
+		}
+		return signedJwt.serialize();
+	}
+
+	private static RSAKey signingKey() {
+		try {
+			return new RSAKeyGenerator(2048).keyID("benchmark").generate();
+		} catch (JOSEException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String writeJwkSet() {
+		try {
+			Path jwkSetFile = Files.createTempFile("benchmark-jwks", ".json");
+			jwkSetFile.toFile().deleteOnExit();
+			Files.writeString(jwkSetFile, new JWKSet(SIGNING_KEY).toPublicJWKSet().toString());
+			return jwkSetFile.toUri().toString();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
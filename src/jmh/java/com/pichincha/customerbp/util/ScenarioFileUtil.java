@@ -0,0 +1,126 @@
+package com.pichincha.customerbp.util;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public final class ScenarioFileUtil {
+
+	private static final Pattern VARIABLE_DEFINITION = Pattern.compile("^@(\\w+)\\s*=\\s*(.*)$");
+	private static final Pattern VARIABLE_REFERENCE = Pattern.compile("\\{\\{(\\w+)}}");
+	private static final Pattern REQUEST_LINE = Pattern.compile("^(GET|POST|PUT|PATCH|DELETE|HEAD|OPTIONS)\\s+(\\S+).*$");
+	private static final Pattern HEADER_LINE = Pattern.compile("^([\\w-]+):\\s*(.*)$");
+	private static final String SEPARATOR = "###";
+	private static final String BASE_URL_VARIABLE = "baseUrl";
+
+	private ScenarioFileUtil() {
+	}
+
+	public record ScenarioRequest(String source, String method, String path, Map<String, String> headers,
+			String body, boolean authenticated) {
+	}
+
+	public static List<ScenarioRequest> read(Path file) throws IOException {
+		return file.getFileName().toString().endsWith(".json") ? readPostmanCollection(file) : readRestFile(file);
+	}
+
+	private static List<ScenarioRequest> readRestFile(Path file) throws IOException {
+		Map<String, String> variables = new LinkedHashMap<>();
+		List<ScenarioRequest> requests = new ArrayList<>();
+		List<String> block = new ArrayList<>();
+		for (String line : Files.readAllLines(file)) {
+			Matcher definition = VARIABLE_DEFINITION.matcher(line.trim());
+			if (definition.matches()) {
+				variables.put(definition.group(1), definition.group(2).trim());
+			} else if (line.startsWith(SEPARATOR)) {
+				parseRestBlock(file, block, variables, requests);
+				block.clear();
+			} else {
+				block.add(line);
+			}
+		}
+		parseRestBlock(file, block, variables, requests);
+		return requests;
+	}
+
+	private static void parseRestBlock(Path file, List<String> block, Map<String, String> variables,
+			List<ScenarioRequest> requests) {
+		int index = 0;
+		while (index < block.size() && !REQUEST_LINE.matcher(block.get(index).trim()).matches()) {
+			index++;
+		}
+		if (index == block.size()) {
+			return;
+		}
+		Matcher requestLine = REQUEST_LINE.matcher(substitute(block.get(index++).trim(), variables));
+		requestLine.matches();
+		Map<String, String> headers = new LinkedHashMap<>();
+		for (; index < block.size() && !block.get(index).isBlank(); index++) {
+			Matcher header = HEADER_LINE.matcher(substitute(block.get(index).trim(), variables));
+			if (header.matches()) {
+				headers.put(header.group(1), header.group(2));
+			}
+		}
+		String body = substitute(String.join("\n", block.subList(index, block.size())).strip(), variables);
+		requests.add(new ScenarioRequest(file.getFileName().toString(), requestLine.group(1),
+				pathOf(requestLine.group(2)), headers, body.isEmpty() ? null : body + "\n", true));
+	}
+
+	private static List<ScenarioRequest> readPostmanCollection(Path file) throws IOException {
+		List<ScenarioRequest> requests = new ArrayList<>();
+		collectPostmanItems(file.getFileName().toString(), new ObjectMapper().readTree(file.toFile()).path("item"),
+				requests);
+		return requests;
+	}
+
+	private static void collectPostmanItems(String source, JsonNode items, List<ScenarioRequest> requests) {
+		for (JsonNode item : items) {
+			if (item.has("item")) {
+				collectPostmanItems(source, item.path("item"), requests);
+				continue;
+			}
+			JsonNode request = item.path("request");
+			JsonNode url = request.path("url");
+			Map<String, String> headers = new LinkedHashMap<>();
+			for (JsonNode header : request.path("header")) {
+				if (!header.path("disabled").asBoolean(false)) {
+					headers.put(header.path("key").asText(), header.path("value").asText());
+				}
+			}
+			String body = request.path("body").path("raw").asText(null);
+			requests.add(new ScenarioRequest(source, request.path("method").asText(),
+					pathOf(url.isTextual() ? url.asText() : url.path("raw").asText()), headers,
+					body == null || body.isBlank() ? null : body,
+					!"noauth".equals(request.path("auth").path("type").asText())));
+		}
+	}
+
+	private static String substitute(String text, Map<String, String> variables) {
+		Matcher reference = VARIABLE_REFERENCE.matcher(text);
+		StringBuilder substituted = new StringBuilder();
+		while (reference.find()) {
+			String name = reference.group(1);
+			String value = BASE_URL_VARIABLE.equals(name) ? "" : variables.getOrDefault(name, reference.group());
+			reference.appendReplacement(substituted, Matcher.quoteReplacement(value));
+		}
+		return reference.appendTail(substituted).toString();
+	}
+
+	private static String pathOf(String url) {
+		if (url.startsWith("/")) {
+			return url;
+		}
+		URI uri = URI.create(url);
+		return uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+	}
+}
@@ -2,9 +2,17 @@ package com.pichincha.customerbp;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 
-@SpringBootApplication
+@SpringBootApplication(exclude = { DataSourceAutoConfiguration.class,
+    DataSourceTransactionManagerAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+    JpaRepositoriesAutoConfiguration.class })
+@ConfigurationPropertiesScan
 @EnableR2dbcRepositories(basePackages = "com.pichincha.customerbp.repository")
 public class OptimusApplication {
 
@@ -12,4 +20,4 @@ public class OptimusApplication {
     SpringApplication.run(OptimusApplication.class, args);
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.admission")
+public record AdmissionControlProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue Limit defaultLimit,
+		@DefaultValue List<KeyLimit> limits,
+		@DefaultValue("10000") int maxKeys,
+		@DefaultValue("512") int maxInFlight,
+		@DefaultValue("64") int maxPendingAcquire,
+		@DefaultValue("1s") Duration retryAfter) {
+
+	public Limit resolveLimit(String channel, String app) {
+		Limit channelLimit = null;
+		for (KeyLimit keyLimit : limits) {
+			if (!channel.equals(keyLimit.channel())) {
+				continue;
+			}
+			if (app.equals(keyLimit.app())) {
+				return keyLimit.limit();
+			}
+			if (keyLimit.app() == null && channelLimit == null) {
+				channelLimit = keyLimit.limit();
+			}
+		}
+		return channelLimit != null ? channelLimit : defaultLimit;
+	}
+
+	public boolean isConfiguredChannel(String channel) {
+		return limits.stream().anyMatch(keyLimit -> channel.equals(keyLimit.channel()));
+	}
+
+	public boolean isConfiguredApp(String channel, String app) {
+		return limits.stream().anyMatch(keyLimit -> channel.equals(keyLimit.channel()) && app.equals(keyLimit.app()));
+	}
+
+	public record Limit(
+			@DefaultValue("500") double permitsPerSecond,
+			@DefaultValue("1000") int burst) {
+	}
+
+	public record KeyLimit(String channel, String app, double permitsPerSecond, int burst) {
+
+		Limit limit() {
+			return new Limit(permitsPerSecond, burst);
+		}
+	}
+}
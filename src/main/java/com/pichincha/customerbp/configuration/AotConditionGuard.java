@@ -0,0 +1,33 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class AotConditionGuard {
+
+	private final ApplicationContext applicationContext;
+	private final Environment environment;
+
+	@PostConstruct
+	public void verify() {
+		verify("customer.persistence.adapter", "jdbc", JdbcPersistenceConfig.class);
+		verify("customer.read-replica.enabled", "true", ReadReplicaConfig.class);
+	}
+
+	private void verify(String property, String enablingValue, Class<?> configuration) {
+		String value = environment.getProperty(property, "");
+		boolean requested = enablingValue.equalsIgnoreCase(value);
+		boolean active = applicationContext.getBeanNamesForType(configuration).length > 0;
+		if (requested != active) {
+			throw new IllegalStateException(("%s=%s but %s is %s; AOT processing fixes this property at build "
+					+ "time, rebuild with -PfastStartup using the same value or start without -Dspring.aot.enabled")
+					.formatted(property, value, configuration.getSimpleName(), active ? "active" : "not active"));
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.bulk")
+public record BulkIngestProperties(
+		@DefaultValue("500") int batchSize,
+		@DefaultValue("200ms") Duration batchWindow) {
+}
@@ -0,0 +1,104 @@
+package com.pichincha.customerbp.configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+	private static final String JWT_CACHE_NAME = "jwt";
+	private static final String VERIFICATION_METRIC = "customer.jwt.verification";
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final ReactiveJwtDecoder delegate;
+	private final Cache<String, Jwt> verifiedTokens;
+	private final Map<String, Mono<Jwt>> pendingVerifications = new ConcurrentHashMap<>();
+	private final Timer verificationTimer;
+
+	CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, JwtVerificationProperties jwtProperties,
+			MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.verifiedTokens = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+				.maximumSize(jwtProperties.cacheMaximumSize())
+				.expireAfter(new UntilExpiry(jwtProperties.cacheMaximumTtl()))
+				.recordStats()
+				.<String, Jwt>build(), JWT_CACHE_NAME);
+		this.verificationTimer = Timer.builder(VERIFICATION_METRIC)
+				.description("Time spent verifying JWT signatures and claims on cache misses")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public Mono<Jwt> decode(String token) {
+		return Mono.defer(() -> {
+			String key = digest(token);
+			Jwt cached = verifiedTokens.getIfPresent(key);
+			if (cached != null) {
+				return Mono.just(cached);
+			}
+			return pendingVerifications.computeIfAbsent(key, ignored -> verify(key, token));
+		});
+	}
+
+	private Mono<Jwt> verify(String key, String token) {
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start();
+			return delegate.decode(token)
+					.doOnNext(jwt -> verifiedTokens.put(key, jwt))
+					.doOnTerminate(() -> sample.stop(verificationTimer));
+		})
+				.doFinally(signal -> pendingVerifications.remove(key))
+				.cache();
+	}
+
+	private static String digest(String token) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	private record UntilExpiry(Duration maximumTtl) implements Expiry<String, Jwt> {
+
+		@Override
+		public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+			if (jwt.getExpiresAt() == null) {
+				return maximumTtl.toNanos();
+			}
+			Duration remaining = Duration.between(Instant.now(), jwt.getExpiresAt());
+			return Math.max(0, Math.min(remaining.toNanos(), maximumTtl.toNanos()));
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, jwt, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+
+}
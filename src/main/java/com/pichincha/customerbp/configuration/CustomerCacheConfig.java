@@ -0,0 +1,38 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.repository.CacheInvalidationRepository;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+public class CustomerCacheConfig {
+
+	private static final String CUSTOMER_CACHE_NAME = "customers";
+
+	@Bean
+	public AsyncCache<Long, Customer> customerCache(CustomerCacheProperties cacheProperties,
+			MeterRegistry meterRegistry) {
+		AsyncCache<Long, Customer> cache = Caffeine.newBuilder()
+				.maximumSize(cacheProperties.maximumSize())
+				.expireAfterWrite(cacheProperties.ttl())
+				.recordStats()
+				.buildAsync();
+		return CaffeineCacheMetrics.monitor(meterRegistry, cache, CUSTOMER_CACHE_NAME);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "customer.cache.invalidation.channel", havingValue = "memory")
+	public CacheInvalidationRepository cacheInvalidationRepository() {
+		return new InMemoryCacheInvalidationRepository();
+	}
+
+}
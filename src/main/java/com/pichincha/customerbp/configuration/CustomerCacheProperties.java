@@ -0,0 +1,35 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.cache")
+public record CustomerCacheProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("10000") long maximumSize,
+		@DefaultValue("5m") Duration ttl,
+		@DefaultValue Invalidation invalidation) {
+
+	public enum Channel {
+		KAFKA(true), MEMORY(false);
+
+		private final boolean shared;
+
+		Channel(boolean shared) {
+			this.shared = shared;
+		}
+
+		public boolean isShared() {
+			return shared;
+		}
+	}
+
+	public record Invalidation(
+			@DefaultValue("KAFKA") Channel channel,
+			@DefaultValue("customer-bp-cache-invalidation") String topic,
+			@DefaultValue("customer-bp-cache-") String groupIdPrefix,
+			@DefaultValue("2s") Duration publishTimeout) {
+	}
+}
@@ -0,0 +1,16 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.change-feed")
+public record CustomerChangeFeedProperties(
+		@DefaultValue("256") int batchSize,
+		@DefaultValue("1s") Duration pollInterval,
+		@DefaultValue("5s") Duration gapTimeout,
+		@DefaultValue("7d") Duration retention,
+		@DefaultValue("1h") Duration compactAfter,
+		@DefaultValue("10m") Duration cleanupInterval) {
+}
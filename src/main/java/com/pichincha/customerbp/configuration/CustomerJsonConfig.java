@@ -0,0 +1,24 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+
+@Configuration
+public class CustomerJsonConfig {
+
+	@Bean
+	public Jackson2ObjectMapperBuilderCustomizer customerJsonCustomizer() {
+		return builder -> builder.mixIn(Customer.class, CustomerMixin.class);
+	}
+
+	abstract static class CustomerMixin {
+
+		@JsonProperty(value = "password", access = JsonProperty.Access.WRITE_ONLY)
+		abstract String getPassword();
+	}
+
+}
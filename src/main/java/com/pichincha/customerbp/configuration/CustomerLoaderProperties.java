@@ -0,0 +1,14 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.loader")
+public record CustomerLoaderProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("64") int maxBatchSize,
+		@DefaultValue("2ms") Duration maxWait,
+		@DefaultValue("4") int maxConcurrentBatches) {
+}
@@ -0,0 +1,12 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.metrics")
+public record CustomerMetricsProperties(
+		@DefaultValue("true") boolean eventLoopProbeEnabled,
+		@DefaultValue("1s") Duration eventLoopProbeInterval) {
+}
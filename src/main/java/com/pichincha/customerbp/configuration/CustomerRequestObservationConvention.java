@@ -0,0 +1,63 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.http.server.reactive.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+public class CustomerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+	private static final String NONE = "none";
+	private static final String OTHER = "other";
+	private static final String CHANNEL_HEADER = "x-channel";
+	private static final String APP_HEADER = "x-app";
+
+	private final AdmissionControlProperties admissionProperties;
+
+	public CustomerRequestObservationConvention(AdmissionControlProperties admissionProperties) {
+		this.admissionProperties = admissionProperties;
+	}
+
+	@Override
+	public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+		String channel = header(context, CHANNEL_HEADER);
+		String app = header(context, APP_HEADER);
+		return super.getLowCardinalityKeyValues(context).and(
+				operation(context),
+				KeyValue.of("channel", channelTag(channel)),
+				KeyValue.of("app", appTag(channel, app)));
+	}
+
+	private KeyValue operation(ServerRequestObservationContext context) {
+		Object handler = context.getAttributes().get(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		String operation = handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethod().getName()
+				: NONE;
+		return KeyValue.of("operation", operation);
+	}
+
+	private String channelTag(String channel) {
+		if (channel == null) {
+			return NONE;
+		}
+		return admissionProperties.isConfiguredChannel(channel) ? channel : OTHER;
+	}
+
+	private String appTag(String channel, String app) {
+		if (app == null) {
+			return NONE;
+		}
+		return channel != null && admissionProperties.isConfiguredApp(channel, app) ? app : OTHER;
+	}
+
+	private String header(ServerRequestObservationContext context, String name) {
+		if (context.getCarrier() == null) {
+			return null;
+		}
+		String value = context.getCarrier().getHeaders().getFirst(name);
+		return value == null || value.isEmpty() ? null : value;
+	}
+
+}
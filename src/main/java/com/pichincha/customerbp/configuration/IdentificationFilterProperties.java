@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.identification-filter")
+public record IdentificationFilterProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("1000000") long expectedInsertions,
+		@DefaultValue("0.01") double falsePositiveProbability) {
+}
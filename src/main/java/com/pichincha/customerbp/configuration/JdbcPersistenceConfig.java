@@ -0,0 +1,77 @@
+package com.pichincha.customerbp.configuration;
+
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.pichincha.customerbp.repository.CustomerOutboxRepository;
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.repository.JdbcCustomerOutboxRepository;
+import com.pichincha.customerbp.repository.JdbcCustomerRepository;
+import com.pichincha.customerbp.repository.JdbcTransactionalOperator;
+import com.zaxxer.hikari.HikariDataSource;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@ConditionalOnProperty(name = "customer.persistence.adapter", havingValue = "jdbc")
+public class JdbcPersistenceConfig {
+
+	private static final String JDBC_POOL_NAME = "customer-jdbc";
+
+	@Bean(destroyMethod = "close")
+	public HikariDataSource customerDataSource(PersistenceProperties persistenceProperties) {
+		PersistenceProperties.Jdbc jdbc = persistenceProperties.jdbc();
+		if (jdbc.url() == null || jdbc.url().isBlank()) {
+			throw new IllegalStateException("customer.persistence.jdbc.url is required for the JDBC adapter");
+		}
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName(JDBC_POOL_NAME);
+		dataSource.setJdbcUrl(jdbc.url());
+		dataSource.setUsername(jdbc.username());
+		dataSource.setPassword(jdbc.password());
+		dataSource.setMaximumPoolSize(jdbc.maximumPoolSize());
+		dataSource.setConnectionTimeout(jdbc.connectionTimeout().toMillis());
+		return dataSource;
+	}
+
+	@Bean(destroyMethod = "dispose")
+	public Scheduler customerJdbcScheduler() {
+		return Schedulers.fromExecutorService(Executors.newThreadPerTaskExecutor(
+				Thread.ofVirtual().name(JDBC_POOL_NAME + "-", 0).factory()), JDBC_POOL_NAME);
+	}
+
+	@Bean
+	@Primary
+	public CustomerRepository jdbcCustomerRepository(HikariDataSource customerDataSource,
+			@Qualifier("customerJdbcScheduler") Scheduler customerJdbcScheduler) {
+		return new JdbcCustomerRepository(new JdbcTemplate(customerDataSource), customerJdbcScheduler);
+	}
+
+	@Bean
+	@Primary
+	public CustomerOutboxRepository jdbcCustomerOutboxRepository(
+			@Qualifier("customerOutboxRepository") CustomerOutboxRepository customerOutboxRepository,
+			HikariDataSource customerDataSource,
+			@Qualifier("customerJdbcScheduler") Scheduler customerJdbcScheduler) {
+		return new JdbcCustomerOutboxRepository(customerOutboxRepository, new JdbcTemplate(customerDataSource),
+				customerJdbcScheduler);
+	}
+
+	@Bean
+	@Primary
+	public TransactionalOperator jdbcTransactionalOperator(HikariDataSource customerDataSource,
+			@Qualifier("customerJdbcScheduler") Scheduler customerJdbcScheduler) {
+		return new JdbcTransactionalOperator(new DataSourceTransactionManager(customerDataSource),
+				customerJdbcScheduler);
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.security.jwt")
+public record JwtVerificationProperties(
+		String jwkSetUri,
+		@DefaultValue("5m") Duration jwkSetRefreshInterval,
+		@DefaultValue("30s") Duration unknownKeyRefreshInterval,
+		@DefaultValue("RS256") List<String> jwsAlgorithms,
+		String issuer,
+		String audience,
+		@DefaultValue("60s") Duration clockSkew,
+		@DefaultValue("10000") long cacheMaximumSize,
+		@DefaultValue("15m") Duration cacheMaximumTtl) {
+}
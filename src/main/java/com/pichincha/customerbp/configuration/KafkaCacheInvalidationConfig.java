@@ -0,0 +1,50 @@
+package com.pichincha.customerbp.configuration;
+
+import java.util.Properties;
+import java.util.UUID;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.repository.KafkaCacheInvalidationRepository;
+
+@Configuration
+@ConditionalOnProperty(name = "customer.cache.invalidation.channel", havingValue = "kafka", matchIfMissing = true)
+public class KafkaCacheInvalidationConfig {
+
+	@Bean
+	public KafkaCacheInvalidationRepository cacheInvalidationRepository(KafkaTemplate<String, String> kafkaTemplate,
+			ObjectMapper objectMapper, CustomerCacheProperties cacheProperties) {
+		CustomerCacheProperties.Invalidation invalidation = cacheProperties.invalidation();
+		return new KafkaCacheInvalidationRepository(kafkaTemplate, objectMapper, invalidation.topic(),
+				invalidation.publishTimeout());
+	}
+
+	@Bean
+	public KafkaMessageListenerContainer<String, String> cacheInvalidationListenerContainer(
+			ConsumerFactory<String, String> consumerFactory, KafkaCacheInvalidationRepository invalidationRepository,
+			CustomerCacheProperties cacheProperties) {
+		CustomerCacheProperties.Invalidation invalidation = cacheProperties.invalidation();
+		ContainerProperties containerProperties = new ContainerProperties(invalidation.topic());
+		containerProperties.setGroupId(invalidation.groupIdPrefix() + UUID.randomUUID());
+		containerProperties.setKafkaConsumerProperties(latestOffsetsOnly());
+		containerProperties.setMessageListener(invalidationRepository);
+		containerProperties.setConsumerRebalanceListener(invalidationRepository);
+		return new KafkaMessageListenerContainer<>(consumerFactory, containerProperties);
+	}
+
+	private Properties latestOffsetsOnly() {
+		Properties consumerProperties = new Properties();
+		consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+		consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		return consumerProperties;
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.pichincha.customerbp.configuration;
+
+import org.reactivestreams.Publisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+class MeteredConnectionFactory implements ConnectionFactory, Wrapped<ConnectionFactory> {
+
+	private static final String ACQUIRE_METRIC = "customer.r2dbc.acquire";
+
+	private final ConnectionFactory delegate;
+	private final MeterRegistry meterRegistry;
+	private final Timer acquired;
+	private final Timer failed;
+
+	MeteredConnectionFactory(ConnectionFactory delegate, String name, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.meterRegistry = meterRegistry;
+		this.acquired = acquireTimer(name, "SUCCESS");
+		this.failed = acquireTimer(name, "ERROR");
+	}
+
+	@Override
+	public Publisher<? extends Connection> create() {
+		return Mono.defer(() -> {
+			Timer.Sample sample = Timer.start(meterRegistry);
+			return Mono.<Connection>from(delegate.create())
+					.doOnSuccess(connection -> sample.stop(acquired))
+					.doOnError(error -> sample.stop(failed));
+		});
+	}
+
+	@Override
+	public ConnectionFactoryMetadata getMetadata() {
+		return delegate.getMetadata();
+	}
+
+	@Override
+	public ConnectionFactory unwrap() {
+		return delegate;
+	}
+
+	private Timer acquireTimer(String name, String outcome) {
+		return Timer.builder(ACQUIRE_METRIC)
+				.description("Time spent waiting for an R2DBC connection")
+				.tag("name", name)
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+}
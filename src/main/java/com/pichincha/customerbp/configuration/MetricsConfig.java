@@ -0,0 +1,25 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationConvention;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	public ServerRequestObservationConvention customerRequestObservationConvention(
+			AdmissionControlProperties admissionProperties) {
+		return new CustomerRequestObservationConvention(admissionProperties);
+	}
+
+	@Bean
+	public static BeanPostProcessor persistenceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		return new PersistenceMetricsPostProcessor(meterRegistry);
+	}
+
+}
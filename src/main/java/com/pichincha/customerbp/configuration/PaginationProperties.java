@@ -0,0 +1,15 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.pagination")
+public record PaginationProperties(
+		@DefaultValue("100") int defaultLimit,
+		@DefaultValue("500") int maxLimit,
+		@DefaultValue("256") int streamFetchSize) {
+
+	public int resolveLimit(Integer requested) {
+		return requested == null ? defaultLimit : Math.min(Math.max(requested, 1), maxLimit);
+	}
+}
@@ -0,0 +1,41 @@
+package com.pichincha.customerbp.configuration;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class PasswordHashingConfig {
+
+	private static final String HASHING_POOL_NAME = "password-hashing";
+
+	@Bean
+	public PasswordEncoder passwordEncoder(PasswordHashingProperties hashingProperties) {
+		return new BCryptPasswordEncoder(hashingProperties.cost());
+	}
+
+	@Bean(destroyMethod = "dispose")
+	public Scheduler passwordHashingScheduler(PasswordHashingProperties hashingProperties,
+			MeterRegistry meterRegistry) {
+		int threads = hashingProperties.resolveThreads();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L,
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(hashingProperties.queueCapacity()),
+				new CustomizableThreadFactory(HASHING_POOL_NAME + "-"),
+				new ThreadPoolExecutor.AbortPolicy());
+		new ExecutorServiceMetrics(executor, HASHING_POOL_NAME, List.of()).bindTo(meterRegistry);
+		return Schedulers.fromExecutorService(executor, HASHING_POOL_NAME);
+	}
+
+}
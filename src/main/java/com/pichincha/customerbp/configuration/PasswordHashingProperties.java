@@ -0,0 +1,15 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.password")
+public record PasswordHashingProperties(
+		@DefaultValue("10") int cost,
+		@DefaultValue("0") int threads,
+		@DefaultValue("256") int queueCapacity) {
+
+	public int resolveThreads() {
+		return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+	}
+}
@@ -0,0 +1,40 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.repository.JdbcCustomerRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+
+class PersistenceMetricsPostProcessor implements BeanPostProcessor {
+
+	private final ObjectProvider<MeterRegistry> meterRegistry;
+
+	PersistenceMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof ConnectionFactory connectionFactory && !(bean instanceof MeteredConnectionFactory)
+				&& !(bean instanceof ReadReplicaRoutingConnectionFactory)) {
+			return new MeteredConnectionFactory(connectionFactory, beanName, meterRegistry.getObject());
+		}
+		if (bean instanceof CustomerRepository) {
+			ProxyFactory proxyFactory = new ProxyFactory();
+			proxyFactory.setTarget(bean);
+			proxyFactory.setInterfaces(CustomerRepository.class);
+			String repository = bean instanceof JdbcCustomerRepository
+					? JdbcCustomerRepository.class.getSimpleName()
+					: CustomerRepository.class.getSimpleName();
+			proxyFactory.addAdvice(new RepositoryMetricsInterceptor(repository, meterRegistry.getObject()));
+			return proxyFactory.getProxy();
+		}
+		return bean;
+	}
+
+}
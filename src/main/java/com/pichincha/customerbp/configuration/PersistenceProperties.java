@@ -0,0 +1,24 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.persistence")
+public record PersistenceProperties(
+		@DefaultValue("R2DBC") Adapter adapter,
+		@DefaultValue Jdbc jdbc) {
+
+	public enum Adapter {
+		R2DBC, JDBC
+	}
+
+	public record Jdbc(
+			String url,
+			String username,
+			String password,
+			@DefaultValue("10") int maximumPoolSize,
+			@DefaultValue("5s") Duration connectionTimeout) {
+	}
+}
@@ -0,0 +1,64 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.actuate.metrics.r2dbc.ConnectionPoolMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.context.properties.PropertyMapper;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactory;
+
+@Configuration
+@ConditionalOnProperty(name = "customer.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	private static final String REPLICA_POOL_NAME = "replica";
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionFactory connectionFactory(R2dbcProperties r2dbcProperties,
+			ReadReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+		R2dbcProperties.Pool primaryPool = r2dbcProperties.getPool();
+		ReadReplicaProperties.Pool replicaPool = replicaProperties.pool();
+		ConnectionPool primary = pool(
+				connect(r2dbcProperties.getUrl(), r2dbcProperties.getUsername(), r2dbcProperties.getPassword()),
+				primaryPool.getInitialSize(), primaryPool.getMaxSize(), primaryPool.getMaxIdleTime(),
+				primaryPool.getValidationQuery());
+		ConnectionPool replica = pool(
+				connect(replicaProperties.url(), replicaProperties.username(), replicaProperties.password()),
+				replicaPool.initialSize(), replicaPool.maxSize(), replicaPool.maxIdleTime(),
+				replicaPool.validationQuery());
+		new ConnectionPoolMetrics(replica, REPLICA_POOL_NAME, Tags.empty()).bindTo(meterRegistry);
+		return new ReadReplicaRoutingConnectionFactory(primary, replica, meterRegistry);
+	}
+
+	private static ConnectionFactory connect(String url, String username, String password) {
+		if (url == null || url.isBlank()) {
+			throw new IllegalStateException("A URL is required for each read-replica routing target");
+		}
+		ConnectionFactoryBuilder builder = ConnectionFactoryBuilder.withUrl(url);
+		PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		map.from(username).to(builder::username);
+		map.from(password).to(builder::password);
+		return builder.build();
+	}
+
+	private static ConnectionPool pool(ConnectionFactory connectionFactory, int initialSize, int maxSize,
+			Duration maxIdleTime, String validationQuery) {
+		ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder(connectionFactory)
+				.initialSize(initialSize)
+				.maxSize(maxSize);
+		PropertyMapper map = PropertyMapper.get().alwaysApplyingWhenNonNull();
+		map.from(maxIdleTime).to(builder::maxIdleTime);
+		map.from(validationQuery).whenHasText().to(builder::validationQuery);
+		return new ConnectionPool(builder.build());
+	}
+
+}
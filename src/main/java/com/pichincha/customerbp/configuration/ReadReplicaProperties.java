@@ -0,0 +1,24 @@
+package com.pichincha.customerbp.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.read-replica")
+public record ReadReplicaProperties(
+		@DefaultValue("false") boolean enabled,
+		String url,
+		String username,
+		String password,
+		@DefaultValue Pool pool,
+		@DefaultValue("2s") Duration readYourWritesWindow,
+		@DefaultValue("10000") long maxTrackedWrites) {
+
+	public record Pool(
+			@DefaultValue("2") int initialSize,
+			@DefaultValue("10") int maxSize,
+			@DefaultValue("30m") Duration maxIdleTime,
+			String validationQuery) {
+	}
+}
@@ -0,0 +1,55 @@
+package com.pichincha.customerbp.configuration;
+
+import java.util.Map;
+
+import org.springframework.r2dbc.connection.lookup.AbstractRoutingConnectionFactory;
+
+import com.pichincha.customerbp.domain.ConnectionRole;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class ReadReplicaRoutingConnectionFactory extends AbstractRoutingConnectionFactory
+		implements Wrapped<ConnectionFactory>, Disposable {
+
+	private final ConnectionPool primaryPool;
+	private final ConnectionPool replicaPool;
+	private final ConnectionFactory primary;
+
+	ReadReplicaRoutingConnectionFactory(ConnectionPool primaryPool, ConnectionPool replicaPool,
+			MeterRegistry meterRegistry) {
+		this.primaryPool = primaryPool;
+		this.replicaPool = replicaPool;
+		this.primary = new MeteredConnectionFactory(primaryPool, "primary", meterRegistry);
+		setTargetConnectionFactories(Map.of(
+				ConnectionRole.PRIMARY, primary,
+				ConnectionRole.REPLICA, new MeteredConnectionFactory(replicaPool, "replica", meterRegistry)));
+		setDefaultTargetConnectionFactory(primary);
+	}
+
+	@Override
+	protected Mono<Object> determineCurrentLookupKey() {
+		return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty(ConnectionRole.class)));
+	}
+
+	@Override
+	public ConnectionFactory unwrap() {
+		return primary;
+	}
+
+	@Override
+	public void dispose() {
+		replicaPool.dispose();
+		primaryPool.dispose();
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return primaryPool.isDisposed() && replicaPool.isDisposed();
+	}
+
+}
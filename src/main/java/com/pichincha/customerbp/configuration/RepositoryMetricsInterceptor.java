@@ -0,0 +1,60 @@
+package com.pichincha.customerbp.configuration;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+	private static final String QUERY_METRIC = "customer.repository.query";
+
+	private final String repository;
+	private final MeterRegistry meterRegistry;
+
+	RepositoryMetricsInterceptor(String repository, MeterRegistry meterRegistry) {
+		this.repository = repository;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		Object result = invocation.proceed();
+		String method = invocation.getMethod().getName();
+		if (result instanceof Mono<?> mono) {
+			return Mono.defer(() -> {
+				Timer.Sample sample = Timer.start(meterRegistry);
+				return mono.doFinally(signal -> stop(sample, method, signal));
+			});
+		}
+		if (result instanceof Flux<?> flux) {
+			return Flux.defer(() -> {
+				Timer.Sample sample = Timer.start(meterRegistry);
+				return flux.doFinally(signal -> stop(sample, method, signal));
+			});
+		}
+		return result;
+	}
+
+	private void stop(Timer.Sample sample, String method, SignalType signal) {
+		sample.stop(Timer.builder(QUERY_METRIC)
+				.description("Repository query execution time")
+				.tag("repository", repository)
+				.tag("method", method)
+				.tag("outcome", outcome(signal))
+				.register(meterRegistry));
+	}
+
+	private String outcome(SignalType signal) {
+		return switch (signal) {
+		case ON_ERROR -> "ERROR";
+		case CANCEL -> "CANCELLED";
+		default -> "SUCCESS";
+		};
+	}
+
+}
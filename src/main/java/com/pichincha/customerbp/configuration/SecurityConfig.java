@@ -1,47 +1,103 @@
 package com.pichincha.customerbp.configuration;
 
-import java.time.Duration;
-import java.time.Instant;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
+import org.springframework.boot.actuate.autoconfigure.security.reactive.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtIssuerValidator;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
 import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.util.StringUtils;
 
+import com.pichincha.customerbp.helper.JwkSetHelper;
+
+import io.micrometer.core.instrument.MeterRegistry;
 import reactor.core.publisher.Mono;
 
 @Configuration
 @EnableReactiveMethodSecurity
 public class SecurityConfig {
 
+	private static final String ROLES_CLAIM = "roles";
+	private static final String HEALTH_ENDPOINT = "health";
+	private static final String PROMETHEUS_ENDPOINT = "prometheus";
+
+	private final JwtGrantedAuthoritiesConverter scopeAuthorities = new JwtGrantedAuthoritiesConverter();
+	private final JwtGrantedAuthoritiesConverter roleAuthorities = roleAuthorities();
+
 	@Bean
-	public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http) {
+	public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http, ReactiveJwtDecoder jwtDecoder) {
 		http.csrf(ServerHttpSecurity.CsrfSpec::disable)
 				.authorizeExchange(
-						exchange -> exchange.pathMatchers("/api/auth/**").permitAll().anyExchange().authenticated())
-				.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtDecoder(jwtDecoder())));
+						exchange -> exchange.pathMatchers("/api/auth/**").permitAll()
+								.matchers(EndpointRequest.to(HEALTH_ENDPOINT, PROMETHEUS_ENDPOINT)).permitAll()
+								.anyExchange().authenticated())
+				.oauth2ResourceServer(oauth2 -> oauth2.jwt(jwt -> jwt.jwtDecoder(jwtDecoder)
+						.jwtAuthenticationConverter(this::toAuthentication)));
 		return http.build();
 	}
 
 	@Bean
-	public ReactiveJwtDecoder jwtDecoder() {
-		return token -> {
-			Map<String, Object> claims = new HashMap<>();
-			claims.put("sub", "frontend-user");
-			claims.put("scope", "read write");
-			claims.put("roles", List.of("ROLE_USER", "ROLE_ADMIN"));
-
-			Jwt jwt = new Jwt(token, Instant.now(), Instant.now().plus(Duration.ofHours(1)), Map.of("alg", "none"),
-					claims);
-
-			return Mono.just(jwt);
-		};
+	public ReactiveJwtDecoder jwtDecoder(JwtVerificationProperties jwtProperties, JwkSetHelper jwkSetHelper,
+			MeterRegistry meterRegistry) {
+		NimbusReactiveJwtDecoder.JwkSourceReactiveJwtDecoderBuilder builder =
+				NimbusReactiveJwtDecoder.withJwkSource(jwkSetHelper::keysFor);
+		jwtProperties.jwsAlgorithms().forEach(algorithm -> builder.jwsAlgorithm(signatureAlgorithm(algorithm)));
+		NimbusReactiveJwtDecoder verifyingDecoder = builder.build();
+		verifyingDecoder.setJwtValidator(jwtValidator(jwtProperties));
+		return new CachingReactiveJwtDecoder(verifyingDecoder, jwtProperties, meterRegistry);
+	}
+
+	private static SignatureAlgorithm signatureAlgorithm(String algorithm) {
+		SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.from(algorithm);
+		if (signatureAlgorithm == null) {
+			throw new IllegalStateException("Unsupported JWS algorithm " + algorithm);
+		}
+		return signatureAlgorithm;
+	}
+
+	private OAuth2TokenValidator<Jwt> jwtValidator(JwtVerificationProperties jwtProperties) {
+		List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+		validators.add(new JwtTimestampValidator(jwtProperties.clockSkew()));
+		if (StringUtils.hasText(jwtProperties.issuer())) {
+			validators.add(new JwtIssuerValidator(jwtProperties.issuer()));
+		}
+		if (StringUtils.hasText(jwtProperties.audience())) {
+			validators.add(new JwtClaimValidator<Collection<String>>(JwtClaimNames.AUD,
+					audience -> audience != null && audience.contains(jwtProperties.audience())));
+		}
+		return new DelegatingOAuth2TokenValidator<>(validators);
+	}
+
+	private Mono<AbstractAuthenticationToken> toAuthentication(Jwt jwt) {
+		Collection<GrantedAuthority> authorities = Stream.concat(scopeAuthorities.convert(jwt).stream(),
+				roleAuthorities.convert(jwt).stream()).toList();
+		return Mono.just(new JwtAuthenticationToken(jwt, authorities, jwt.getSubject()));
+	}
+
+	private static JwtGrantedAuthoritiesConverter roleAuthorities() {
+		JwtGrantedAuthoritiesConverter converter = new JwtGrantedAuthoritiesConverter();
+		converter.setAuthoritiesClaimName(ROLES_CLAIM);
+		converter.setAuthorityPrefix("");
+		return converter;
 	}
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.pichincha.customerbp.configuration;
+
+import java.util.Map;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+public class TransactionalLogEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+	private static final String PIPELINE_ENABLED = "customer.transactional-log.enabled";
+	private static final String INLINE_SEND = "logging.transactional.sendLog";
+	private static final String PROPERTY_SOURCE = "customerTransactionalLogPipeline";
+
+	@Override
+	public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+		if (environment.getProperty(PIPELINE_ENABLED, Boolean.class, false)) {
+			environment.getPropertySources()
+					.addFirst(new MapPropertySource(PROPERTY_SOURCE, Map.of(INLINE_SEND, false)));
+		}
+	}
+
+}
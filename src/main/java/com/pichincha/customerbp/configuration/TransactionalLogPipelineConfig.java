@@ -0,0 +1,37 @@
+package com.pichincha.customerbp.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.repository.FileTransactionalLogRepository;
+import com.pichincha.customerbp.repository.InMemoryTransactionalLogRepository;
+import com.pichincha.customerbp.repository.KafkaTransactionalLogRepository;
+import com.pichincha.customerbp.repository.LoggerTransactionalLogRepository;
+import com.pichincha.customerbp.repository.TransactionalLogRepository;
+
+@Configuration
+@ConditionalOnProperty(name = "customer.transactional-log.enabled", havingValue = "true")
+public class TransactionalLogPipelineConfig {
+
+	@Bean
+	@ConditionalOnMissingBean
+	public TransactionalLogRepository transactionalLogRepository(TransactionalLogProperties logProperties,
+			ObjectMapper objectMapper, KafkaTemplate<String, String> kafkaTemplate) {
+		return switch (logProperties.sink()) {
+		case KAFKA -> {
+			if (logProperties.topic().isBlank()) {
+				throw new IllegalStateException("customer.transactional-log.topic is required for the KAFKA sink");
+			}
+			yield new KafkaTransactionalLogRepository(kafkaTemplate, objectMapper, logProperties.topic());
+		}
+		case FILE -> new FileTransactionalLogRepository(logProperties.filePath(), objectMapper);
+		case MEMORY -> new InMemoryTransactionalLogRepository();
+		case LOGGER -> new LoggerTransactionalLogRepository(objectMapper);
+		};
+	}
+
+}
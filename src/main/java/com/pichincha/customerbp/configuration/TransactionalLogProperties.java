@@ -0,0 +1,30 @@
+package com.pichincha.customerbp.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "customer.transactional-log")
+public record TransactionalLogProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("8192") int capacity,
+		@DefaultValue("256") int batchSize,
+		@DefaultValue("500ms") Duration flushInterval,
+		@DefaultValue("2s") Duration publishTimeout,
+		@DefaultValue("DROP_NEWEST") OverflowPolicy overflowPolicy,
+		@DefaultValue("0.75") double samplingThreshold,
+		@DefaultValue("0.1") double sampleRate,
+		@DefaultValue("LOGGER") Sink sink,
+		@DefaultValue("transactional-log.ndjson") Path filePath,
+		@DefaultValue("") String topic) {
+
+	public enum OverflowPolicy {
+		DROP_NEWEST, DROP_OLDEST
+	}
+
+	public enum Sink {
+		LOGGER, FILE, MEMORY, KAFKA
+	}
+}
@@ -0,0 +1,5 @@
+package com.pichincha.customerbp.domain;
+
+public enum AdmissionDecision {
+  ADMITTED, THROTTLED, SHED
+}
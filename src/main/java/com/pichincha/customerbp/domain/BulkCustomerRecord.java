@@ -0,0 +1,14 @@
+package com.pichincha.customerbp.domain;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+
+public record BulkCustomerRecord(long index, Customer customer, String violation) {
+
+  public boolean isValid() {
+    return violation == null;
+  }
+
+  public String identification() {
+    return customer == null ? null : customer.getIdentification();
+  }
+}
@@ -0,0 +1,5 @@
+package com.pichincha.customerbp.domain;
+
+public record CacheInvalidationEvent(String sourceInstance, Long customerId,
+    String identification, String session) {
+}
@@ -0,0 +1,5 @@
+package com.pichincha.customerbp.domain;
+
+public record ChannelHeaders(String guid, String channel, String medium, String app,
+    String session) {
+}
@@ -0,0 +1,5 @@
+package com.pichincha.customerbp.domain;
+
+public enum ConnectionRole {
+  PRIMARY, REPLICA
+}
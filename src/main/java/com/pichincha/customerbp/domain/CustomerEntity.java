@@ -1,6 +1,9 @@
 package com.pichincha.customerbp.domain;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Table;
 import org.springframework.data.relational.core.mapping.Column;
 import jakarta.validation.constraints.NotBlank;
@@ -26,4 +29,14 @@ public class CustomerEntity extends Person {
 
   @Column("status")
   private boolean status;
+
+  @Version
+  @Column("version")
+  private Long version;
+
+  @Column("created_at")
+  private LocalDateTime createdAt;
+
+  @Column("updated_at")
+  private LocalDateTime updatedAt;
 }
\ No newline at end of file
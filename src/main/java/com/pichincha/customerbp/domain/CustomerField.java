@@ -0,0 +1,73 @@
+package com.pichincha.customerbp.domain;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.pichincha.customerbp.exception.InvalidSearchFieldException;
+import com.pichincha.customerbp.util.TimestampUtil;
+
+public enum CustomerField {
+
+  CUSTOMER_ID("customerId", "customer_id", CustomerEntity::getCustomerId),
+  FULL_NAME("fullName", "name", CustomerEntity::getName),
+  GENDER("gender", "gender", CustomerEntity::getGender),
+  AGE("age", "age", CustomerEntity::getAge),
+  IDENTIFICATION("identification", "identification", CustomerEntity::getIdentification),
+  ADDRESS("address", "address", CustomerEntity::getAddress),
+  CELULAR("celular", "phone", CustomerEntity::getPhone),
+  EMAIL("email", "email", CustomerEntity::getEmail),
+  ACTIVE("active", "status", CustomerEntity::isStatus),
+  VERSION("version", "version", CustomerEntity::getVersion),
+  UPDATED_AT("updatedAt", "updated_at", entity -> TimestampUtil.toOffsetDateTime(entity.getUpdatedAt()));
+
+  private static final Map<String, CustomerField> BY_PROPERTY = Arrays.stream(values())
+      .collect(Collectors.toUnmodifiableMap(CustomerField::property, Function.identity()));
+
+  private final String property;
+  private final String column;
+  private final Function<CustomerEntity, Object> accessor;
+
+  CustomerField(String property, String column, Function<CustomerEntity, Object> accessor) {
+    this.property = property;
+    this.column = column;
+    this.accessor = accessor;
+  }
+
+  public String property() {
+    return property;
+  }
+
+  public String column() {
+    return column;
+  }
+
+  public Object read(CustomerEntity entity) {
+    return accessor.apply(entity);
+  }
+
+  public static Set<CustomerField> parse(String fields) {
+    if (fields == null || fields.isBlank()) {
+      return EnumSet.allOf(CustomerField.class);
+    }
+    Set<CustomerField> selected = EnumSet.noneOf(CustomerField.class);
+    for (String name : fields.split(",")) {
+      CustomerField field = BY_PROPERTY.get(name.trim());
+      if (field == null) {
+        throw new InvalidSearchFieldException(name);
+      }
+      selected.add(field);
+    }
+    return selected;
+  }
+
+  public static Collection<String> columns(Set<CustomerField> fields) {
+    Set<CustomerField> selected = EnumSet.copyOf(fields);
+    selected.add(CUSTOMER_ID);
+    return selected.stream().map(CustomerField::column).toList();
+  }
+}
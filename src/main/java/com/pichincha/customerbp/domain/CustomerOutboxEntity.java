@@ -0,0 +1,44 @@
+package com.pichincha.customerbp.domain;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.ReadOnlyProperty;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Table("customer_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOutboxEntity {
+
+  @Id
+  @Column("sequence_number")
+  private Long sequenceNumber;
+
+  @Column("customer_id")
+  private Long customerId;
+
+  @Column("event_type")
+  private String eventType;
+
+  @Column("version")
+  private Long version;
+
+  @Column("payload")
+  private String payload;
+
+  @Column("occurred_at")
+  private LocalDateTime occurredAt;
+
+  @ReadOnlyProperty
+  @Column("recorded_at")
+  private LocalDateTime recordedAt;
+}
@@ -0,0 +1,12 @@
+package com.pichincha.customerbp.domain;
+
+import java.util.List;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+
+public record CustomerPage(List<Customer> customers, String nextCursor) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,38 @@
+package com.pichincha.customerbp.domain;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.springframework.http.ETag;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+
+public record CustomerRevision(Long customerId, Long version, Instant updatedAt) {
+
+  public static CustomerRevision of(CustomerEntity entity) {
+    LocalDateTime updatedAt = entity.getUpdatedAt();
+    return new CustomerRevision(entity.getCustomerId(), entity.getVersion(),
+        updatedAt == null ? null : updatedAt.toInstant(ZoneOffset.UTC));
+  }
+
+  public static CustomerRevision of(Customer customer) {
+    return new CustomerRevision(customer.getCustomerId().longValue(), customer.getVersion(),
+        customer.getUpdatedAt() == null ? null : customer.getUpdatedAt().toInstant());
+  }
+
+  public String eTag() {
+    long modifiedAt = updatedAt == null ? 0L : updatedAt.toEpochMilli();
+    return "\"" + version + "-" + Long.toHexString(modifiedAt) + "\"";
+  }
+
+  public boolean hasLastModified() {
+    return updatedAt != null;
+  }
+
+  public boolean matchesAny(List<ETag> expectedTags) {
+    ETag current = ETag.create(eTag());
+    return expectedTags.stream().anyMatch(tag -> tag.isWildcard() || tag.compare(current, true));
+  }
+}
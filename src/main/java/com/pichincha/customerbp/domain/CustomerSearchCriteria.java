@@ -0,0 +1,5 @@
+package com.pichincha.customerbp.domain;
+
+public record CustomerSearchCriteria(Boolean active, Integer minAge, Integer maxAge,
+    String gender, String namePrefix, String email) {
+}
@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.domain;
+
+import java.util.List;
+import java.util.Map;
+
+public record CustomerSearchPage(List<Map<String, Object>> customers, String nextCursor) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
@@ -0,0 +1,8 @@
+package com.pichincha.customerbp.domain;
+
+import java.time.Instant;
+
+public record TransactionalLogRecord(Instant timestamp, String guid, String channel, String medium,
+    String app, String session, String method, String path, String operation, int status,
+    long durationMillis) {
+}
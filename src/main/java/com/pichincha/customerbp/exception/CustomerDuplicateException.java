@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class CustomerDuplicateException extends ResponseStatusException {
+
+	public CustomerDuplicateException(String identification) {
+		super(HttpStatus.CONFLICT, "Customer already exists for identification: " + identification);
+	}
+}
@@ -0,0 +1,15 @@
+package com.pichincha.customerbp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class CustomerNotFoundException extends ResponseStatusException {
+
+	public CustomerNotFoundException(Long customerId) {
+		super(HttpStatus.NOT_FOUND, "Customer not found: " + customerId);
+	}
+
+	public CustomerNotFoundException(String identification) {
+		super(HttpStatus.NOT_FOUND, "Customer not found for identification: " + identification);
+	}
+}
@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class CustomerPreconditionFailedException extends ResponseStatusException {
+
+	public CustomerPreconditionFailedException(Long customerId) {
+		super(HttpStatus.PRECONDITION_FAILED, "Customer " + customerId + " does not match If-Match");
+	}
+}
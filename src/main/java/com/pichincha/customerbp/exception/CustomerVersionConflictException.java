@@ -0,0 +1,12 @@
+package com.pichincha.customerbp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class CustomerVersionConflictException extends ResponseStatusException {
+
+	public CustomerVersionConflictException(Long customerId, Long expectedVersion) {
+		super(HttpStatus.CONFLICT,
+				"Customer " + customerId + " was modified, expected version " + expectedVersion);
+	}
+}
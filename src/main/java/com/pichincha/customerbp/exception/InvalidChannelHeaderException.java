@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidChannelHeaderException extends ResponseStatusException {
+
+	public InvalidChannelHeaderException(String header) {
+		super(HttpStatus.BAD_REQUEST, "Missing or invalid header: " + header);
+	}
+}
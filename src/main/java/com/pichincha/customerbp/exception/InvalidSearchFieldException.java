@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public class InvalidSearchFieldException extends ResponseStatusException {
+
+	public InvalidSearchFieldException(String field) {
+		super(HttpStatus.BAD_REQUEST, "Unknown customer field: " + field);
+	}
+}
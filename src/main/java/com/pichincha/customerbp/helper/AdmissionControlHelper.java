@@ -0,0 +1,114 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.pichincha.customerbp.configuration.AdmissionControlProperties;
+import com.pichincha.customerbp.domain.AdmissionDecision;
+import com.pichincha.customerbp.util.TokenBucket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Wrapped;
+
+@Component
+public class AdmissionControlHelper {
+
+	private static final String ADMISSION_METRIC = "customer.admission";
+	private static final String OVERFLOW_KEY = "other";
+
+	private final AdmissionControlProperties admissionProperties;
+	private final MeterRegistry meterRegistry;
+	private final IntSupplier pendingAcquisitions;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final Map<String, AdmissionKey> keys = new ConcurrentHashMap<>();
+
+	public AdmissionControlHelper(AdmissionControlProperties admissionProperties, MeterRegistry meterRegistry,
+			ObjectProvider<ConnectionFactory> connectionFactory) {
+		this.admissionProperties = admissionProperties;
+		this.meterRegistry = meterRegistry;
+		this.pendingAcquisitions = pendingAcquisitions(connectionFactory.getIfAvailable());
+		Gauge.builder(ADMISSION_METRIC + ".in.flight", inFlight, AtomicInteger::get)
+				.description("Admitted customer requests whose response is not committed yet")
+				.register(meterRegistry);
+	}
+
+	public AdmissionDecision tryAdmit(String channel, String app) {
+		AdmissionKey key = key(channel, app);
+		if (pendingAcquisitions.getAsInt() > admissionProperties.maxPendingAcquire()) {
+			key.shed().increment();
+			return AdmissionDecision.SHED;
+		}
+		if (!key.bucket().tryAcquire()) {
+			key.throttled().increment();
+			return AdmissionDecision.THROTTLED;
+		}
+		if (inFlight.incrementAndGet() > admissionProperties.maxInFlight()) {
+			inFlight.decrementAndGet();
+			key.shed().increment();
+			return AdmissionDecision.SHED;
+		}
+		key.admitted().increment();
+		return AdmissionDecision.ADMITTED;
+	}
+
+	public void release() {
+		inFlight.decrementAndGet();
+	}
+
+	private AdmissionKey key(String channel, String app) {
+		String id = channel + ':' + app;
+		AdmissionKey key = keys.get(id);
+		if (key != null) {
+			return key;
+		}
+		if (keys.size() >= admissionProperties.maxKeys()) {
+			return keys.computeIfAbsent(OVERFLOW_KEY, ignored -> newKey(OVERFLOW_KEY, OVERFLOW_KEY,
+					admissionProperties.defaultLimit()));
+		}
+		return keys.computeIfAbsent(id, ignored -> newKey(channel, app,
+				admissionProperties.resolveLimit(channel, app)));
+	}
+
+	private AdmissionKey newKey(String channel, String app, AdmissionControlProperties.Limit limit) {
+		String channelTag = admissionProperties.isConfiguredChannel(channel) ? channel : OVERFLOW_KEY;
+		String appTag = admissionProperties.isConfiguredApp(channel, app) ? app : OVERFLOW_KEY;
+		return new AdmissionKey(new TokenBucket(limit.permitsPerSecond(), limit.burst()),
+				admissionCounter(channelTag, appTag, "admitted"),
+				admissionCounter(channelTag, appTag, "throttled"),
+				admissionCounter(channelTag, appTag, "shed"));
+	}
+
+	private Counter admissionCounter(String channel, String app, String outcome) {
+		return Counter.builder(ADMISSION_METRIC)
+				.description("Customer requests by admission outcome")
+				.tag("channel", channel)
+				.tag("app", app)
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	private static IntSupplier pendingAcquisitions(ConnectionFactory connectionFactory) {
+		Object current = connectionFactory;
+		while (!(current instanceof ConnectionPool) && current instanceof Wrapped<?> wrapped) {
+			current = wrapped.unwrap();
+		}
+		if (current instanceof ConnectionPool pool) {
+			return pool.getMetrics().<IntSupplier>map(metrics -> metrics::pendingAcquireSize).orElse(() -> 0);
+		}
+		return () -> 0;
+	}
+
+	private record AdmissionKey(TokenBucket bucket, Counter admitted, Counter throttled, Counter shed) {
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.configuration.CustomerCacheProperties;
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+import com.pichincha.customerbp.repository.CacheInvalidationRepository;
+import com.pichincha.customerbp.util.ChannelHeaderUtil;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+@Component
+public class CustomerCacheHelper {
+
+	private final String instanceId = UUID.randomUUID().toString();
+	private final AsyncCache<Long, Customer> customerCache;
+	private final CacheInvalidationRepository invalidationRepository;
+	private final boolean enabled;
+	private Disposable invalidationSubscription;
+
+	public CustomerCacheHelper(AsyncCache<Long, Customer> customerCache,
+			CacheInvalidationRepository invalidationRepository, CustomerCacheProperties cacheProperties) {
+		this.customerCache = customerCache;
+		this.invalidationRepository = invalidationRepository;
+		this.enabled = cacheProperties.enabled();
+	}
+
+	@PostConstruct
+	void subscribeToInvalidations() {
+		invalidationSubscription = invalidationRepository.invalidations()
+				.filter(event -> !instanceId.equals(event.sourceInstance()))
+				.subscribe(event -> customerCache.synchronous().invalidate(event.customerId()));
+	}
+
+	@PreDestroy
+	void unsubscribeFromInvalidations() {
+		invalidationSubscription.dispose();
+	}
+
+	public Mono<Customer> getOrLoad(Long customerId, Function<Long, Mono<Customer>> loader) {
+		if (!enabled) {
+			return loader.apply(customerId);
+		}
+		return Mono.fromFuture(() -> customerCache.get(customerId,
+				(key, executor) -> loader.apply(key).toFuture()), true);
+	}
+
+	public Mono<Customer> getIfPresent(Long customerId) {
+		if (!enabled) {
+			return Mono.empty();
+		}
+		return Mono.justOrEmpty(customerCache.getIfPresent(customerId)).flatMap(Mono::fromFuture);
+	}
+
+	public Mono<Void> refresh(Customer customer) {
+		Long customerId = customer.getCustomerId().longValue();
+		if (enabled) {
+			customerCache.synchronous().put(customerId, customer);
+		}
+		return announce(customerId, customer.getIdentification());
+	}
+
+	public Mono<Void> evict(Long customerId) {
+		if (enabled) {
+			customerCache.synchronous().invalidate(customerId);
+		}
+		return announce(customerId, null);
+	}
+
+	public Mono<Void> announce(Long customerId, String identification) {
+		return Mono.deferContextual(context -> invalidationRepository.publish(new CacheInvalidationEvent(
+				instanceId, customerId, identification, ChannelHeaderUtil.session(context).orElse(null))));
+	}
+}
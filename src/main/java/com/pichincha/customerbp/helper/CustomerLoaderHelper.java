@@ -0,0 +1,137 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.pichincha.customerbp.configuration.CustomerLoaderProperties;
+import com.pichincha.customerbp.domain.ConnectionRole;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.repository.CustomerRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@Component
+public class CustomerLoaderHelper {
+
+	private static final String LOADER_METRIC = "customer.loader";
+
+	private final CustomerRepository customerRepository;
+	private final ReadRoutingHelper readRoutingHelper;
+	private final CustomerLoaderProperties loaderProperties;
+	private final Map<LoadKey, PendingLoad> inFlight = new ConcurrentHashMap<>();
+	private final Sinks.Many<PendingLoad> pending = Sinks.many().unicast().onBackpressureBuffer();
+	private final Disposable.Swap dispatcher = Disposables.swap();
+	private final Counter coalesced;
+	private final DistributionSummary batchSize;
+	private final Timer batchWait;
+
+	public CustomerLoaderHelper(CustomerRepository customerRepository, ReadRoutingHelper readRoutingHelper,
+			CustomerLoaderProperties loaderProperties, MeterRegistry meterRegistry) {
+		this.customerRepository = customerRepository;
+		this.readRoutingHelper = readRoutingHelper;
+		this.loaderProperties = loaderProperties;
+		this.coalesced = Counter.builder(LOADER_METRIC + ".coalesced")
+				.description("Customer lookups that joined an in-flight load for the same id")
+				.register(meterRegistry);
+		this.batchSize = DistributionSummary.builder(LOADER_METRIC + ".batch.size")
+				.description("Distinct customer ids resolved by one batched lookup")
+				.register(meterRegistry);
+		this.batchWait = Timer.builder(LOADER_METRIC + ".batch.wait")
+				.description("Time a customer lookup waited for its batch to be dispatched")
+				.register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		if (!loaderProperties.enabled()) {
+			return;
+		}
+		dispatcher.update(pending.asFlux()
+				.bufferTimeout(loaderProperties.maxBatchSize(), loaderProperties.maxWait(), true)
+				.flatMap(this::dispatch, loaderProperties.maxConcurrentBatches())
+				.subscribe());
+	}
+
+	@PreDestroy
+	void stop() {
+		dispatcher.dispose();
+	}
+
+	public Mono<CustomerEntity> load(Long customerId, ConnectionRole role) {
+		if (!loaderProperties.enabled()) {
+			return readRoutingHelper.withRole(role, customerRepository.findById(customerId));
+		}
+		return Mono.defer(() -> {
+			LoadKey key = new LoadKey(customerId, role);
+			PendingLoad created = new PendingLoad(key, Sinks.one(), System.nanoTime());
+			PendingLoad existing = inFlight.putIfAbsent(key, created);
+			if (existing != null) {
+				coalesced.increment();
+				return existing.result().asMono();
+			}
+			pending.emitNext(created, (signal, result) -> result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+			return created.result().asMono();
+		});
+	}
+
+	private Mono<Void> dispatch(List<PendingLoad> batch) {
+		long dispatchedAt = System.nanoTime();
+		batchSize.record(batch.size());
+		batch.forEach(load -> batchWait.record(dispatchedAt - load.enqueuedAt(), TimeUnit.NANOSECONDS));
+		return Flux.fromIterable(batch.stream()
+				.collect(Collectors.groupingBy(load -> load.key().role()))
+				.entrySet())
+				.flatMap(loads -> fetch(loads.getKey(), loads.getValue()))
+				.then();
+	}
+
+	private Mono<Void> fetch(ConnectionRole role, List<PendingLoad> loads) {
+		List<Long> customerIds = loads.stream().map(load -> load.key().customerId()).toList();
+		return readRoutingHelper.withRole(role, customerRepository.findByCustomerIds(customerIds)
+				.collectMap(CustomerEntity::getCustomerId))
+				.doOnNext(customers -> complete(loads, customers))
+				.doOnError(error -> fail(loads, error))
+				.onErrorResume(error -> Mono.empty())
+				.then();
+	}
+
+	private void complete(List<PendingLoad> loads, Map<Long, CustomerEntity> customers) {
+		for (PendingLoad load : loads) {
+			inFlight.remove(load.key(), load);
+			CustomerEntity customer = customers.get(load.key().customerId());
+			if (customer == null) {
+				load.result().tryEmitEmpty();
+			} else {
+				load.result().tryEmitValue(customer);
+			}
+		}
+	}
+
+	private void fail(List<PendingLoad> loads, Throwable error) {
+		for (PendingLoad load : loads) {
+			inFlight.remove(load.key(), load);
+			load.result().tryEmitError(error);
+		}
+	}
+
+	private record LoadKey(Long customerId, ConnectionRole role) {
+	}
+
+	private record PendingLoad(LoadKey key, Sinks.One<CustomerEntity> result, long enqueuedAt) {
+	}
+}
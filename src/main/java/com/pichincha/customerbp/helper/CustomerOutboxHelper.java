@@ -0,0 +1,86 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange.TypeEnum;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+import com.pichincha.customerbp.repository.CustomerOutboxRepository;
+import com.pichincha.customerbp.service.mapper.CustomerMapper;
+import com.pichincha.customerbp.util.TimestampUtil;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@Component
+@RequiredArgsConstructor
+public class CustomerOutboxHelper {
+
+	private final CustomerOutboxRepository outboxRepository;
+	private final CustomerMapper customerMapper;
+	private final ObjectMapper objectMapper;
+	private final Sinks.Many<Long> commits = Sinks.many().multicast().directBestEffort();
+
+	public Mono<CustomerEntity> recordChange(TypeEnum type, CustomerEntity customer) {
+		return Mono.fromCallable(() -> toEvent(type, customer))
+				.flatMap(outboxRepository::save)
+				.thenReturn(customer);
+	}
+
+	public Mono<Void> recordCreations(List<CustomerEntity> customers) {
+		return Mono.fromCallable(() -> customers.stream().map(customer -> toEvent(TypeEnum.CREATED, customer)).toList())
+				.flatMap(outboxRepository::insertBatch);
+	}
+
+	public Mono<Void> recordDeletion(Long customerId) {
+		return outboxRepository.save(new CustomerOutboxEntity(null, customerId, TypeEnum.DELETED.getValue(), null, null,
+				TimestampUtil.now(), null)).then();
+	}
+
+	public void signalCommitted() {
+		commits.tryEmitNext(System.nanoTime());
+	}
+
+	public Mono<Long> nextCommit() {
+		return commits.asFlux().next();
+	}
+
+	public CustomerChange toChange(CustomerOutboxEntity event) {
+		return new CustomerChange()
+				.sequence(event.getSequenceNumber())
+				.type(TypeEnum.fromValue(event.getEventType()))
+				.customerId(event.getCustomerId())
+				.version(event.getVersion())
+				.occurredAt(TimestampUtil.toOffsetDateTime(event.getOccurredAt()))
+				.customer(event.getPayload() == null ? null : readPayload(event.getPayload()));
+	}
+
+	private CustomerOutboxEntity toEvent(TypeEnum type, CustomerEntity customer) {
+		return new CustomerOutboxEntity(null, customer.getCustomerId(), type.getValue(), customer.getVersion(),
+				writePayload(customerMapper.toDto(customer)),
+				customer.getUpdatedAt() == null ? TimestampUtil.now() : customer.getUpdatedAt(), null);
+	}
+
+	private String writePayload(Customer snapshot) {
+		try {
+			return objectMapper.writeValueAsString(snapshot);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unwritable outbox payload", e);
+		}
+	}
+
+	private Customer readPayload(String payload) {
+		try {
+			return objectMapper.readValue(payload, Customer.class);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Unreadable outbox payload", e);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.pichincha.customerbp.helper;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+
+import com.pichincha.customerbp.configuration.CustomerChangeFeedProperties;
+import com.pichincha.customerbp.repository.CustomerOutboxRepository;
+import com.pichincha.customerbp.util.TimestampUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Component
+public class CustomerOutboxRetentionHelper {
+
+	private static final String PURGED_METRIC = "customer.outbox.purged";
+
+	private final CustomerOutboxRepository outboxRepository;
+	private final CustomerChangeFeedProperties changeFeedProperties;
+	private final Counter compacted;
+	private final Counter expired;
+	private final Disposable.Swap cleanup = Disposables.swap();
+
+	public CustomerOutboxRetentionHelper(CustomerOutboxRepository outboxRepository,
+			CustomerChangeFeedProperties changeFeedProperties, MeterRegistry meterRegistry) {
+		this.outboxRepository = outboxRepository;
+		this.changeFeedProperties = changeFeedProperties;
+		this.compacted = purgedCounter(meterRegistry, "compacted");
+		this.expired = purgedCounter(meterRegistry, "expired");
+	}
+
+	@PostConstruct
+	void start() {
+		cleanup.update(Flux.interval(changeFeedProperties.cleanupInterval())
+				.onBackpressureDrop()
+				.concatMap(tick -> purge())
+				.subscribe());
+	}
+
+	@PreDestroy
+	void stop() {
+		cleanup.dispose();
+	}
+
+	public Mono<Void> purge() {
+		LocalDateTime now = TimestampUtil.now();
+		return outboxRepository.deleteSupersededBefore(now.minus(changeFeedProperties.compactAfter()))
+				.doOnNext(compacted::increment)
+				.then(outboxRepository.deleteBefore(now.minus(changeFeedProperties.retention())))
+				.doOnNext(expired::increment)
+				.then()
+				.onErrorResume(error -> {
+					log.warn("Customer outbox cleanup failed", error);
+					return Mono.empty();
+				});
+	}
+
+	private Counter purgedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder(PURGED_METRIC)
+				.description("Customer outbox events removed by the retention job")
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+
+}
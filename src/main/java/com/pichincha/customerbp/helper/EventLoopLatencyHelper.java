@@ -0,0 +1,76 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerInitializedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.stereotype.Component;
+
+import com.pichincha.customerbp.configuration.CustomerMetricsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+
+@Component
+public class EventLoopLatencyHelper {
+
+	private static final String LATENCY_METRIC = "customer.eventloop.latency";
+
+	private final MeterRegistry meterRegistry;
+	private final ObjectProvider<ReactorResourceFactory> resourceFactory;
+	private final CustomerMetricsProperties metricsProperties;
+	private final Disposable.Swap probe = Disposables.swap();
+
+	public EventLoopLatencyHelper(MeterRegistry meterRegistry, ObjectProvider<ReactorResourceFactory> resourceFactory,
+			CustomerMetricsProperties metricsProperties) {
+		this.meterRegistry = meterRegistry;
+		this.resourceFactory = resourceFactory;
+		this.metricsProperties = metricsProperties;
+	}
+
+	@EventListener(ReactiveWebServerInitializedEvent.class)
+	public void start() {
+		ReactorResourceFactory resources = resourceFactory.getIfAvailable();
+		if (!metricsProperties.eventLoopProbeEnabled() || resources == null) {
+			return;
+		}
+		List<EventExecutor> executors = new ArrayList<>();
+		resources.getLoopResources().onServer(true).forEach(executors::add);
+		List<Timer> timers = new ArrayList<>(executors.size());
+		for (int i = 0; i < executors.size(); i++) {
+			timers.add(Timer.builder(LATENCY_METRIC)
+					.description("Delay between submitting a task to a server event loop and its execution")
+					.tag("loop", String.valueOf(i))
+					.register(meterRegistry));
+		}
+		probe.update(Flux.interval(metricsProperties.eventLoopProbeInterval())
+				.subscribe(tick -> probe(executors, timers)));
+	}
+
+	@PreDestroy
+	void stop() {
+		probe.dispose();
+	}
+
+	private void probe(List<EventExecutor> executors, List<Timer> timers) {
+		for (int i = 0; i < executors.size(); i++) {
+			EventExecutor executor = executors.get(i);
+			if (executor.isShuttingDown()) {
+				continue;
+			}
+			Timer timer = timers.get(i);
+			long submittedAt = System.nanoTime();
+			executor.execute(() -> timer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS));
+		}
+	}
+
+}
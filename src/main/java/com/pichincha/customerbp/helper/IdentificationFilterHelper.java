@@ -0,0 +1,129 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.pichincha.customerbp.configuration.CustomerCacheProperties;
+import com.pichincha.customerbp.configuration.IdentificationFilterProperties;
+import com.pichincha.customerbp.repository.CacheInvalidationRepository;
+import com.pichincha.customerbp.repository.CustomerRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+@Slf4j
+@Component
+public class IdentificationFilterHelper {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final CustomerRepository customerRepository;
+	private final CacheInvalidationRepository invalidationRepository;
+	private final boolean enabled;
+	private final long bitCount;
+	private final int hashCount;
+	private final AtomicLongArray bits;
+	private final Disposable.Composite subscriptions = Disposables.composite();
+	private volatile boolean ready;
+
+	public IdentificationFilterHelper(CustomerRepository customerRepository,
+			CacheInvalidationRepository invalidationRepository,
+			IdentificationFilterProperties filterProperties, CustomerCacheProperties cacheProperties) {
+		this.customerRepository = customerRepository;
+		this.invalidationRepository = invalidationRepository;
+		this.enabled = filterProperties.enabled() && cacheProperties.invalidation().channel().isShared();
+		if (filterProperties.enabled() && !enabled) {
+			log.info("Identification filter disabled: invalidation channel {} is not shared across instances",
+					cacheProperties.invalidation().channel());
+		}
+		double n = Math.max(filterProperties.expectedInsertions(), 1);
+		double p = filterProperties.falsePositiveProbability();
+		long words = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)) / Long.SIZE);
+		this.bits = new AtomicLongArray((int) Math.max(words, 1));
+		this.bitCount = (long) bits.length() * Long.SIZE;
+		this.hashCount = (int) Math.max(1, Math.round(bitCount / n * Math.log(2)));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		if (!enabled) {
+			return;
+		}
+		subscriptions.add(invalidationRepository.invalidations()
+				.filter(event -> event.identification() != null)
+				.subscribe(event -> add(event.identification())));
+		subscriptions.add(invalidationRepository.ready()
+				.thenMany(customerRepository.findAllIdentifications())
+				.doOnNext(this::add)
+				.count()
+				.subscribe(this::markReady,
+						error -> log.warn("Identification filter rebuild failed", error)));
+	}
+
+	@PreDestroy
+	void dispose() {
+		subscriptions.dispose();
+	}
+
+	public boolean mightContain(String identification) {
+		if (!enabled || !ready || identification == null) {
+			return true;
+		}
+		long hash = hash(identification);
+		long step = mix(hash);
+		for (int i = 0; i < hashCount; i++) {
+			if (!isSet(Math.floorMod(hash + i * step, bitCount))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void register(String identification) {
+		if (enabled && identification != null) {
+			add(identification);
+		}
+	}
+
+	private void markReady(long loaded) {
+		ready = true;
+		log.info("Identification filter ready with {} entries", loaded);
+	}
+
+	private void add(String identification) {
+		long hash = hash(identification);
+		long step = mix(hash);
+		for (int i = 0; i < hashCount; i++) {
+			set(Math.floorMod(hash + i * step, bitCount));
+		}
+	}
+
+	private boolean isSet(long bitIndex) {
+		return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+	}
+
+	private void set(long bitIndex) {
+		long mask = 1L << bitIndex;
+		bits.getAndAccumulate((int) (bitIndex >>> 6), mask, (word, bit) -> word | bit);
+	}
+
+	private long hash(String identification) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < identification.length(); i++) {
+			hash = (hash ^ identification.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private long mix(long hash) {
+		long mixed = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+		mixed = (mixed ^ (mixed >>> 33)) * 0xc4ceb9fe1a85ec53L;
+		return (mixed ^ (mixed >>> 33)) | 1L;
+	}
+}
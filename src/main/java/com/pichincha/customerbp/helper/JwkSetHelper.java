@@ -0,0 +1,107 @@
+package com.pichincha.customerbp.helper;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.pichincha.customerbp.configuration.JwtVerificationProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+public class JwkSetHelper {
+
+	private final Resource jwkSetResource;
+	private final JwtVerificationProperties jwtProperties;
+	private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>();
+	private final AtomicReference<Mono<JWKSet>> pendingLoad = new AtomicReference<>();
+	private final AtomicLong lastLoadNanos = new AtomicLong();
+	private final Disposable.Swap refresher = Disposables.swap();
+
+	public JwkSetHelper(JwtVerificationProperties jwtProperties, ResourceLoader resourceLoader) {
+		if (!StringUtils.hasText(jwtProperties.jwkSetUri())) {
+			throw new IllegalStateException("customer.security.jwt.jwk-set-uri must be configured");
+		}
+		this.jwtProperties = jwtProperties;
+		this.jwkSetResource = resourceLoader.getResource(jwtProperties.jwkSetUri());
+	}
+
+	@PostConstruct
+	void start() {
+		refresher.update(Flux.interval(jwtProperties.jwkSetRefreshInterval())
+				.onBackpressureDrop()
+				.concatMap(tick -> load().onErrorResume(error -> {
+					log.warn("JWK set refresh from {} failed", jwtProperties.jwkSetUri(), error);
+					return Mono.empty();
+				}))
+				.subscribe());
+	}
+
+	@PreDestroy
+	void stop() {
+		refresher.dispose();
+	}
+
+	public Flux<JWK> keysFor(SignedJWT signedJwt) {
+		JWKMatcher matcher = JWKMatcher.forJWSHeader(signedJwt.getHeader());
+		if (matcher == null) {
+			return Flux.empty();
+		}
+		JWKSelector selector = new JWKSelector(matcher);
+		JWKSet current = jwkSet.get();
+		if (current == null) {
+			return load().flatMapIterable(selector::select);
+		}
+		List<JWK> keys = selector.select(current);
+		if (keys.isEmpty() && mayRefreshForUnknownKey()) {
+			return load().flatMapIterable(selector::select);
+		}
+		return Flux.fromIterable(keys);
+	}
+
+	private boolean mayRefreshForUnknownKey() {
+		return System.nanoTime() - lastLoadNanos.get() >= jwtProperties.unknownKeyRefreshInterval().toNanos();
+	}
+
+	private Mono<JWKSet> load() {
+		Mono<JWKSet> pending = pendingLoad.get();
+		if (pending != null) {
+			return pending;
+		}
+		Mono<JWKSet> created = Mono.fromCallable(this::read)
+				.subscribeOn(Schedulers.boundedElastic())
+				.doOnNext(jwkSet::set)
+				.doFinally(signal -> pendingLoad.set(null))
+				.cache();
+		return pendingLoad.compareAndSet(null, created) ? created : load();
+	}
+
+	private JWKSet read() throws Exception {
+		try (InputStream inputStream = jwkSetResource.getInputStream()) {
+			JWKSet loaded = JWKSet.load(inputStream).toPublicJWKSet();
+			lastLoadNanos.set(System.nanoTime());
+			log.debug("Loaded {} keys from {}", loaded.size(), jwtProperties.jwkSetUri());
+			return loaded;
+		}
+	}
+
+}
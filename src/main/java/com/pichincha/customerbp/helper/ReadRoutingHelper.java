@@ -0,0 +1,143 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.customerbp.configuration.ReadReplicaProperties;
+import com.pichincha.customerbp.domain.ConnectionRole;
+import com.pichincha.customerbp.repository.CacheInvalidationRepository;
+import com.pichincha.customerbp.util.ChannelHeaderUtil;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+@Component
+public class ReadRoutingHelper {
+
+	private static final String ROUTING_METRIC = "customer.read.routing";
+
+	private final boolean enabled;
+	private final Cache<String, Boolean> recentWriters;
+	private final Cache<Long, Boolean> recentlyWritten;
+	private final Counter replicaReads;
+	private final Counter primaryReads;
+	private final CacheInvalidationRepository invalidationRepository;
+	private final Disposable.Swap remoteWrites = Disposables.swap();
+
+	public ReadRoutingHelper(ReadReplicaProperties replicaProperties, MeterRegistry meterRegistry,
+			CacheInvalidationRepository invalidationRepository) {
+		this.enabled = replicaProperties.enabled();
+		this.invalidationRepository = invalidationRepository;
+		this.recentWriters = recentWrites(replicaProperties);
+		this.recentlyWritten = recentWrites(replicaProperties);
+		this.replicaReads = routingCounter(meterRegistry, ConnectionRole.REPLICA);
+		this.primaryReads = routingCounter(meterRegistry, ConnectionRole.PRIMARY);
+	}
+
+	@PostConstruct
+	void start() {
+		if (!enabled) {
+			return;
+		}
+		remoteWrites.update(invalidationRepository.invalidations()
+				.subscribe(event -> track(event.session(), List.of(event.customerId()))));
+	}
+
+	@PreDestroy
+	void stop() {
+		remoteWrites.dispose();
+	}
+
+	public Mono<ConnectionRole> resolveRole(Long customerId) {
+		if (!enabled) {
+			return Mono.just(ConnectionRole.PRIMARY);
+		}
+		return Mono.deferContextual(context -> Mono.just(
+				wroteRecently(context, customerId) ? ConnectionRole.PRIMARY : ConnectionRole.REPLICA));
+	}
+
+	public <T> Mono<T> withRole(ConnectionRole role, Mono<T> query) {
+		if (!enabled) {
+			return query;
+		}
+		return query.contextWrite(context -> context.put(ConnectionRole.class, role))
+				.doOnSubscribe(subscription -> readsOn(role).increment());
+	}
+
+	public <T> Mono<T> onReplica(Mono<T> query) {
+		return onReplica(null, query);
+	}
+
+	public <T> Mono<T> onReplica(Long customerId, Mono<T> query) {
+		if (!enabled) {
+			return query;
+		}
+		return resolveRole(customerId).flatMap(role -> withRole(role, query));
+	}
+
+	public <T> Flux<T> onReplica(Flux<T> query) {
+		if (!enabled) {
+			return query;
+		}
+		return resolveRole(null).flatMapMany(role -> query
+				.contextWrite(context -> context.put(ConnectionRole.class, role))
+				.doOnSubscribe(subscription -> readsOn(role).increment()));
+	}
+
+	public Mono<Void> recordWrite(Long customerId) {
+		return recordWrites(List.of(customerId));
+	}
+
+	public Mono<Void> recordWrites(Collection<Long> customerIds) {
+		if (!enabled) {
+			return Mono.empty();
+		}
+		return Mono.deferContextual(context -> {
+			track(ChannelHeaderUtil.session(context).orElse(null), customerIds);
+			return Mono.empty();
+		});
+	}
+
+	private void track(String session, Collection<Long> customerIds) {
+		if (session != null) {
+			recentWriters.put(session, Boolean.TRUE);
+		}
+		customerIds.forEach(customerId -> recentlyWritten.put(customerId, Boolean.TRUE));
+	}
+
+	private Counter readsOn(ConnectionRole role) {
+		return role == ConnectionRole.REPLICA ? replicaReads : primaryReads;
+	}
+
+	private boolean wroteRecently(ContextView context, Long customerId) {
+		if (customerId != null && recentlyWritten.getIfPresent(customerId) != null) {
+			return true;
+		}
+		return ChannelHeaderUtil.session(context).map(recentWriters::getIfPresent).isPresent();
+	}
+
+	private static <K> Cache<K, Boolean> recentWrites(ReadReplicaProperties replicaProperties) {
+		return Caffeine.newBuilder()
+				.maximumSize(replicaProperties.maxTrackedWrites())
+				.expireAfterWrite(replicaProperties.readYourWritesWindow())
+				.build();
+	}
+
+	private static Counter routingCounter(MeterRegistry meterRegistry, ConnectionRole role) {
+		return Counter.builder(ROUTING_METRIC)
+				.description("Query reads by the connection role they were routed to")
+				.tag("role", role.name().toLowerCase())
+				.register(meterRegistry);
+	}
+}
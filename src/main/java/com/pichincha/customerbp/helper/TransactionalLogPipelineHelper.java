@@ -0,0 +1,158 @@
+package com.pichincha.customerbp.helper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.pichincha.customerbp.configuration.TransactionalLogProperties;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+import com.pichincha.customerbp.repository.TransactionalLogRepository;
+import com.pichincha.customerbp.util.RingBuffer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "customer.transactional-log.enabled", havingValue = "true")
+public class TransactionalLogPipelineHelper {
+
+	private static final String RECORDS_METRIC = "customer.transactional.log.records";
+
+	private final RingBuffer<TransactionalLogRecord> buffer;
+	private final TransactionalLogRepository logRepository;
+	private final TransactionalLogProperties logProperties;
+	private final int samplingSize;
+	private final Scheduler scheduler = Schedulers.newSingle("transactional-log");
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final Counter accepted;
+	private final Counter sampledOut;
+	private final Counter dropped;
+	private final Counter published;
+	private final Counter failed;
+	private final Disposable flushTicker;
+
+	public TransactionalLogPipelineHelper(TransactionalLogRepository logRepository,
+			TransactionalLogProperties logProperties, MeterRegistry meterRegistry) {
+		this.buffer = new RingBuffer<>(logProperties.capacity());
+		this.logRepository = logRepository;
+		this.logProperties = logProperties;
+		this.samplingSize = (int) (buffer.capacity() * logProperties.samplingThreshold());
+		this.accepted = recordCounter(meterRegistry, "accepted");
+		this.sampledOut = recordCounter(meterRegistry, "sampled_out");
+		this.dropped = recordCounter(meterRegistry, "dropped");
+		this.published = recordCounter(meterRegistry, "published");
+		this.failed = recordCounter(meterRegistry, "failed");
+		Gauge.builder("customer.transactional.log.buffer", buffer, RingBuffer::size)
+				.description("Transactional log records waiting to be published")
+				.register(meterRegistry);
+		long flushMillis = logProperties.flushInterval().toMillis();
+		this.flushTicker = scheduler.schedulePeriodically(this::requestDrain, flushMillis, flushMillis,
+				TimeUnit.MILLISECONDS);
+	}
+
+	public void offer(TransactionalLogRecord logRecord) {
+		int size = buffer.size();
+		if (size >= samplingSize && ThreadLocalRandom.current().nextDouble() >= logProperties.sampleRate()) {
+			sampledOut.increment();
+			return;
+		}
+		if (!buffer.offer(logRecord) && !evictOldestAndOffer(logRecord)) {
+			dropped.increment();
+			return;
+		}
+		accepted.increment();
+		if (size + 1 >= logProperties.batchSize()) {
+			requestDrain();
+		}
+	}
+
+	@PreDestroy
+	void flush() {
+		flushTicker.dispose();
+		List<TransactionalLogRecord> batch = nextBatch();
+		while (!batch.isEmpty()) {
+			try {
+				logRepository.publish(batch).block(logProperties.publishTimeout());
+				published.increment(batch.size());
+			} catch (RuntimeException e) {
+				failed.increment(batch.size());
+			}
+			batch = nextBatch();
+		}
+		scheduler.dispose();
+	}
+
+	private boolean evictOldestAndOffer(TransactionalLogRecord logRecord) {
+		if (logProperties.overflowPolicy() != TransactionalLogProperties.OverflowPolicy.DROP_OLDEST
+				|| buffer.poll() == null) {
+			return false;
+		}
+		dropped.increment();
+		return buffer.offer(logRecord);
+	}
+
+	private void requestDrain() {
+		if (draining.compareAndSet(false, true)) {
+			scheduler.schedule(this::drain);
+		}
+	}
+
+	private void drain() {
+		List<TransactionalLogRecord> batch = nextBatch();
+		if (batch.isEmpty()) {
+			draining.set(false);
+			return;
+		}
+		logRepository.publish(batch)
+				.timeout(logProperties.publishTimeout())
+				.doOnSuccess(ignored -> published.increment(batch.size()))
+				.onErrorResume(error -> {
+					failed.increment(batch.size());
+					log.warn("Transactional log batch of {} records not published", batch.size(), error);
+					return Mono.empty();
+				})
+				.doFinally(signal -> scheduler.schedule(this::afterPublish))
+				.subscribe();
+	}
+
+	private void afterPublish() {
+		if (buffer.size() >= logProperties.batchSize()) {
+			drain();
+			return;
+		}
+		draining.set(false);
+		if (buffer.size() >= logProperties.batchSize()) {
+			requestDrain();
+		}
+	}
+
+	private List<TransactionalLogRecord> nextBatch() {
+		List<TransactionalLogRecord> batch = new ArrayList<>(Math.min(buffer.size(), logProperties.batchSize()));
+		TransactionalLogRecord logRecord;
+		while (batch.size() < logProperties.batchSize() && (logRecord = buffer.poll()) != null) {
+			batch.add(logRecord);
+		}
+		return batch;
+	}
+
+	private Counter recordCounter(MeterRegistry meterRegistry, String outcome) {
+		return Counter.builder(RECORDS_METRIC)
+				.description("Transactional log records by pipeline outcome")
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pichincha.customerbp.configuration.AdmissionControlProperties;
+import com.pichincha.customerbp.domain.AdmissionDecision;
+import com.pichincha.customerbp.domain.ChannelHeaders;
+import com.pichincha.customerbp.helper.AdmissionControlHelper;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class AdmissionControlWebFilter implements WebFilter, Ordered {
+
+	private static final int ORDER = 1;
+
+	private final AdmissionControlHelper admissionHelper;
+	private final boolean enabled;
+	private final String retryAfterSeconds;
+
+	public AdmissionControlWebFilter(AdmissionControlHelper admissionHelper,
+			AdmissionControlProperties admissionProperties) {
+		this.admissionHelper = admissionHelper;
+		this.enabled = admissionProperties.enabled();
+		this.retryAfterSeconds = String.valueOf(Math.max(1L, admissionProperties.retryAfter().toSeconds()));
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		ChannelHeaders headers = exchange.getAttribute(ChannelHeaderWebFilter.CHANNEL_HEADERS_ATTRIBUTE);
+		if (!enabled || headers == null) {
+			return chain.filter(exchange);
+		}
+		AdmissionDecision decision = admissionHelper.tryAdmit(headers.channel(), headers.app());
+		if (decision != AdmissionDecision.ADMITTED) {
+			return reject(exchange.getResponse(), decision);
+		}
+		AtomicBoolean released = new AtomicBoolean();
+		exchange.getResponse().beforeCommit(() -> {
+			release(released);
+			return Mono.empty();
+		});
+		return chain.filter(exchange).doFinally(signal -> release(released));
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+	private void release(AtomicBoolean released) {
+		if (released.compareAndSet(false, true)) {
+			admissionHelper.release();
+		}
+	}
+
+	private Mono<Void> reject(ServerHttpResponse response, AdmissionDecision decision) {
+		response.setStatusCode(decision == AdmissionDecision.THROTTLED ? HttpStatus.TOO_MANY_REQUESTS
+				: HttpStatus.SERVICE_UNAVAILABLE);
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+		return response.setComplete();
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pichincha.customerbp.domain.ChannelHeaders;
+import com.pichincha.customerbp.exception.InvalidChannelHeaderException;
+import com.pichincha.customerbp.util.ChannelHeaderUtil;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class ChannelHeaderWebFilter implements WebFilter, Ordered {
+
+	public static final String CHANNEL_HEADERS_ATTRIBUTE = ChannelHeaders.class.getName();
+
+	private static final String CUSTOMERS_PATH = "/customers";
+	private static final String GUID_HEADER = "x-guid";
+	private static final String CHANNEL_HEADER = "x-channel";
+	private static final String MEDIUM_HEADER = "x-medium";
+	private static final String APP_HEADER = "x-app";
+	private static final String SESSION_HEADER = "x-session";
+	private static final int CHANNEL_MAX_LENGTH = 2;
+	private static final int MEDIUM_MAX_LENGTH = 2;
+	private static final int APP_MAX_LENGTH = 5;
+	private static final int SESSION_MAX_LENGTH = 100;
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!isCustomersPath(exchange.getRequest().getPath().pathWithinApplication().value())) {
+			return chain.filter(exchange);
+		}
+		HttpHeaders headers = exchange.getRequest().getHeaders();
+		String guid = headers.getFirst(GUID_HEADER);
+		if (!ChannelHeaderUtil.isGuid(guid)) {
+			return Mono.error(new InvalidChannelHeaderException(GUID_HEADER));
+		}
+		String channel = headers.getFirst(CHANNEL_HEADER);
+		if (!ChannelHeaderUtil.isDigits(channel, CHANNEL_MAX_LENGTH)) {
+			return Mono.error(new InvalidChannelHeaderException(CHANNEL_HEADER));
+		}
+		String medium = headers.getFirst(MEDIUM_HEADER);
+		if (!ChannelHeaderUtil.isDigits(medium, MEDIUM_MAX_LENGTH)) {
+			return Mono.error(new InvalidChannelHeaderException(MEDIUM_HEADER));
+		}
+		String app = headers.getFirst(APP_HEADER);
+		if (!ChannelHeaderUtil.isDigits(app, APP_MAX_LENGTH)) {
+			return Mono.error(new InvalidChannelHeaderException(APP_HEADER));
+		}
+		String session = headers.getFirst(SESSION_HEADER);
+		if (!ChannelHeaderUtil.isWithinLength(session, SESSION_MAX_LENGTH)) {
+			return Mono.error(new InvalidChannelHeaderException(SESSION_HEADER));
+		}
+		ChannelHeaders channelHeaders = new ChannelHeaders(guid, channel, medium, app, session);
+		exchange.getAttributes().put(CHANNEL_HEADERS_ATTRIBUTE, channelHeaders);
+		return chain.filter(exchange).contextWrite(context -> context.put(ChannelHeaders.class, channelHeaders));
+	}
+
+	@Override
+	public int getOrder() {
+		return 0;
+	}
+
+	public static boolean isCustomersPath(String path) {
+		return path.startsWith(CUSTOMERS_PATH)
+				&& (path.length() == CUSTOMERS_PATH.length() || path.charAt(CUSTOMERS_PATH.length()) == '/');
+	}
+
+}
@@ -1,6 +1,12 @@
 package com.pichincha.customerbp.infrastructure.input.adapter.rest;
 
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
@@ -8,11 +14,19 @@ import org.springframework.web.server.ServerWebExchange;
 
 import com.pichincha.common.infrastructure.input.adapter.rest.CustomersApi;
 import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerBulkResult;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange;
+import com.pichincha.customerbp.domain.CustomerPage;
+import com.pichincha.customerbp.domain.CustomerRevision;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+import com.pichincha.customerbp.domain.CustomerSearchPage;
+import com.pichincha.customerbp.service.CustomerChangeFeedService;
 import com.pichincha.customerbp.service.CustomerCommandService;
+import com.pichincha.customerbp.service.CustomerIngestService;
 import com.pichincha.customerbp.service.CustomerQueryService;
 
 import jakarta.validation.Valid;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import reactor.core.publisher.Flux;
@@ -21,63 +35,158 @@ import reactor.core.publisher.Mono;
 @RestController
 public class CustomerController implements CustomersApi {
 
+	private static final String NEXT_CURSOR_HEADER = "x-next-cursor";
+
 	private final CustomerCommandService commandService;
 	private final CustomerQueryService queryService;
+	private final CustomerIngestService ingestService;
+	private final CustomerChangeFeedService changeFeedService;
 
-	public CustomerController(CustomerCommandService commandService, CustomerQueryService queryService) {
+	public CustomerController(CustomerCommandService commandService, CustomerQueryService queryService,
+			CustomerIngestService ingestService, CustomerChangeFeedService changeFeedService) {
 		this.commandService = commandService;
 		this.queryService = queryService;
+		this.ingestService = ingestService;
+		this.changeFeedService = changeFeedService;
 	}
 
 	@Override
 	public Mono<ResponseEntity<Customer>> createCustomer(
-			@NotNull @Pattern(regexp = "^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$") @Size(max = 60) String xGuid,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xChannel,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xMedium,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 5) String xApp, @NotNull @Size(max = 100) String xSession,
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
 			@Valid Mono<Customer> customer, ServerWebExchange exchange) {
 		return commandService.createCustomer(customer)
-				.map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+				.map(created -> withValidators(ResponseEntity.status(HttpStatus.CREATED),
+						CustomerRevision.of(created)).body(created));
+	}
+
+	@Override
+	public Mono<ResponseEntity<Flux<CustomerBulkResult>>> bulkCreateCustomers(
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
+			@Valid Flux<Object> requestBody, ServerWebExchange exchange) {
+		MediaType contentType = acceptsNdjson(exchange) ? MediaType.APPLICATION_NDJSON
+				: MediaType.APPLICATION_JSON;
+		return Mono.just(ResponseEntity.ok().contentType(contentType)
+				.body(ingestService.bulkCreateCustomers(requestBody)));
 	}
 
 	@Override
 	public Mono<ResponseEntity<Void>> deleteCustomer(Integer id,
-			@NotNull @Pattern(regexp = "^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$") @Size(max = 60) String xGuid,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xChannel,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xMedium,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 5) String xApp, @NotNull @Size(max = 100) String xSession,
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
 			ServerWebExchange exchange) {
 		return commandService.deleteCustomer(id).thenReturn(ResponseEntity.noContent().build());
 	}
 
 	@Override
 	public Mono<ResponseEntity<Flux<Customer>>> getAllCustomers(
-			@NotNull @Pattern(regexp = "^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$") @Size(max = 60) String xGuid,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xChannel,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xMedium,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 5) String xApp, @NotNull @Size(max = 100) String xSession,
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
+			@Min(1) @Valid Integer limit, @Size(max = 64) @Valid String after,
+			ServerWebExchange exchange) {
+		if (acceptsNdjson(exchange)) {
+			return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+					.body(queryService.streamCustomers(limit, after)));
+		}
+		return queryService.getCustomerPage(limit, after).map(this::toPageResponse);
+	}
+
+	@Override
+	public Mono<ResponseEntity<Flux<CustomerChange>>> getCustomerChanges(
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
+			@Min(0L) @Valid Long after, @Min(1) @Valid Integer limit, @Valid Boolean follow,
 			ServerWebExchange exchange) {
-		return Mono.just(ResponseEntity.ok(queryService.getAllCustomers()));
+		MediaType contentType = acceptsNdjson(exchange) ? MediaType.APPLICATION_NDJSON
+				: MediaType.TEXT_EVENT_STREAM;
+		return Mono.just(ResponseEntity.ok().contentType(contentType)
+				.body(changeFeedService.streamChanges(after, limit, !Boolean.FALSE.equals(follow))));
 	}
 
 	@Override
 	public Mono<ResponseEntity<Customer>> getCustomerById(Integer id,
-			@NotNull @Pattern(regexp = "^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$") @Size(max = 60) String xGuid,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xChannel,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xMedium,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 5) String xApp, @NotNull @Size(max = 100) String xSession,
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
+			ServerWebExchange exchange) {
+		if (!isConditional(exchange)) {
+			return queryService.getCustomerById(id).map(this::toCustomerResponse);
+		}
+		return queryService.getCustomerRevision(id).flatMap(revision -> isNotModified(exchange, revision)
+				? Mono.just(withValidators(ResponseEntity.status(HttpStatus.NOT_MODIFIED), revision).build())
+				: queryService.getCustomerById(id).map(this::toCustomerResponse));
+	}
+
+	@Override
+	public Mono<ResponseEntity<Customer>> getCustomerByIdentification(
+			@Pattern(regexp = "^\\d{1,10}$") @Size(max = 10) String identification,
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
 			ServerWebExchange exchange) {
-		return queryService.getCustomerById(id).map(ResponseEntity::ok);
+		return queryService.getCustomerByIdentification(identification).map(ResponseEntity::ok);
+	}
+
+	@Override
+	public Mono<ResponseEntity<Flux<Map<String, Object>>>> searchCustomers(
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
+			@Valid Boolean active, @Min(0) @Valid Integer minAge, @Min(0) @Valid Integer maxAge,
+			@Size(max = 50) @Valid String gender, @Size(min = 1, max = 100) @Valid String namePrefix,
+			@Size(max = 255) @Valid String email,
+			@Pattern(regexp = "^[A-Za-z]+(,[A-Za-z]+)*$") @Size(max = 200) @Valid String fields,
+			@Min(1) @Valid Integer limit, @Size(max = 64) @Valid String after,
+			ServerWebExchange exchange) {
+		CustomerSearchCriteria criteria = new CustomerSearchCriteria(active, minAge, maxAge, gender, namePrefix,
+				email);
+		return queryService.searchCustomers(criteria, fields, limit, after).map(this::toSearchResponse);
 	}
 
 	@Override
 	public Mono<ResponseEntity<Customer>> updateCustomer(Integer id,
-			@NotNull @Pattern(regexp = "^[{]?[0-9a-fA-F]{8}-([0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}[}]?$") @Size(max = 60) String xGuid,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xChannel,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 2) String xMedium,
-			@NotNull @Pattern(regexp = "^\\d+$") @Size(max = 5) String xApp, @NotNull @Size(max = 100) String xSession,
+			String xGuid, String xChannel, String xMedium, String xApp, String xSession,
 			@Valid Mono<Customer> customer, ServerWebExchange exchange) {
-		return commandService.updateCustomer(id, customer).map(updated -> ResponseEntity.ok(updated));
+		List<String> ifMatch = exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.IF_MATCH);
+		Mono<Customer> updated = ifMatch.isEmpty()
+				? commandService.updateCustomer(id, customer)
+				: commandService.updateCustomerIfMatch(id, customer, ETag.parse(String.join(",", ifMatch)));
+		return updated.map(this::toCustomerResponse);
+	}
+
+	private ResponseEntity<Customer> toCustomerResponse(Customer customer) {
+		return withValidators(ResponseEntity.ok(), CustomerRevision.of(customer)).body(customer);
+	}
+
+	private ResponseEntity.BodyBuilder withValidators(ResponseEntity.BodyBuilder response,
+			CustomerRevision revision) {
+		response.eTag(revision.eTag());
+		if (revision.hasLastModified()) {
+			response.lastModified(revision.updatedAt());
+		}
+		return response;
+	}
+
+	private boolean isConditional(ServerWebExchange exchange) {
+		HttpHeaders headers = exchange.getRequest().getHeaders();
+		return headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+	}
+
+	private boolean isNotModified(ServerWebExchange exchange, CustomerRevision revision) {
+		return revision.hasLastModified()
+				? exchange.checkNotModified(revision.eTag(), revision.updatedAt())
+				: exchange.checkNotModified(revision.eTag());
+	}
+
+	private ResponseEntity<Flux<Customer>> toPageResponse(CustomerPage page) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (page.hasNext()) {
+			response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+		}
+		return response.body(Flux.fromIterable(page.customers()));
+	}
+
+	private ResponseEntity<Flux<Map<String, Object>>> toSearchResponse(CustomerSearchPage page) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (page.hasNext()) {
+			response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+		}
+		return response.body(Flux.fromIterable(page.customers()));
+	}
+
+	private boolean acceptsNdjson(ServerWebExchange exchange) {
+		return exchange.getRequest().getHeaders().getAccept().stream()
+				.anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
 	}
 
 }
\ No newline at end of file
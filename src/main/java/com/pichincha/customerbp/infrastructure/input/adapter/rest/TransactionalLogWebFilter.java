@@ -0,0 +1,68 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import java.time.Instant;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pichincha.customerbp.domain.ChannelHeaders;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+import com.pichincha.customerbp.helper.TransactionalLogPipelineHelper;
+
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "customer.transactional-log.enabled", havingValue = "true")
+public class TransactionalLogWebFilter implements WebFilter, Ordered {
+
+	private static final int ORDER = -1;
+
+	private final TransactionalLogPipelineHelper pipelineHelper;
+
+	public TransactionalLogWebFilter(TransactionalLogPipelineHelper pipelineHelper) {
+		this.pipelineHelper = pipelineHelper;
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		if (!ChannelHeaderWebFilter.isCustomersPath(exchange.getRequest().getPath().pathWithinApplication().value())) {
+			return chain.filter(exchange);
+		}
+		long startedAt = System.nanoTime();
+		exchange.getResponse().beforeCommit(() -> {
+			pipelineHelper.offer(toRecord(exchange, startedAt));
+			return Mono.empty();
+		});
+		return chain.filter(exchange);
+	}
+
+	@Override
+	public int getOrder() {
+		return ORDER;
+	}
+
+	private TransactionalLogRecord toRecord(ServerWebExchange exchange, long startedAt) {
+		ChannelHeaders headers = exchange.getAttribute(ChannelHeaderWebFilter.CHANNEL_HEADERS_ATTRIBUTE);
+		Object handler = exchange.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		HttpStatusCode status = exchange.getResponse().getStatusCode();
+		return new TransactionalLogRecord(Instant.now(),
+				headers != null ? headers.guid() : null,
+				headers != null ? headers.channel() : null,
+				headers != null ? headers.medium() : null,
+				headers != null ? headers.app() : null,
+				headers != null ? headers.session() : null,
+				exchange.getRequest().getMethod().name(),
+				exchange.getRequest().getPath().value(),
+				handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethod().getName() : null,
+				status != null ? status.value() : 200,
+				(System.nanoTime() - startedAt) / 1_000_000);
+	}
+
+}
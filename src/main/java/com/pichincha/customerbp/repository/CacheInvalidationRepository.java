@@ -0,0 +1,16 @@
+package com.pichincha.customerbp.repository;
+
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CacheInvalidationRepository {
+
+	Mono<Void> publish(CacheInvalidationEvent event);
+
+	Flux<CacheInvalidationEvent> invalidations();
+
+	Mono<Void> ready();
+
+}
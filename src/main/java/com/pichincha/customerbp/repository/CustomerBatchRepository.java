@@ -0,0 +1,13 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+
+import reactor.core.publisher.Flux;
+
+public interface CustomerBatchRepository {
+
+	Flux<Long> insertBatch(List<CustomerEntity> customers);
+
+}
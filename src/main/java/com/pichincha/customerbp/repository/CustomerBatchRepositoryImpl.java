@@ -0,0 +1,60 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class CustomerBatchRepositoryImpl implements CustomerBatchRepository {
+
+	private static final String INSERT_QUERY = "INSERT INTO customer (password, status, name, gender, "
+			+ "age, identification, address, phone, email, created_at, updated_at) "
+			+ "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11)";
+
+	private final R2dbcEntityTemplate entityTemplate;
+
+	@Override
+	public Flux<Long> insertBatch(List<CustomerEntity> customers) {
+		if (customers.isEmpty()) {
+			return Flux.empty();
+		}
+		return entityTemplate.getDatabaseClient().inConnectionMany(connection -> Flux
+				.from(bindAll(connection, customers).returnGeneratedValues("customer_id").execute())
+				.concatMap(result -> result.map((row, metadata) -> row.get(0, Long.class))));
+	}
+
+	private Statement bindAll(Connection connection, List<CustomerEntity> customers) {
+		Statement statement = connection.createStatement(INSERT_QUERY);
+		for (int i = 0; i < customers.size(); i++) {
+			if (i > 0) {
+				statement.add();
+			}
+			bind(statement, customers.get(i));
+		}
+		return statement;
+	}
+
+	private void bind(Statement statement, CustomerEntity customer) {
+		statement.bind(0, customer.getPassword()).bind(1, customer.isStatus())
+				.bind(2, customer.getName()).bind(3, customer.getGender()).bind(4, customer.getAge())
+				.bind(5, customer.getIdentification()).bind(6, customer.getAddress());
+		bindNullable(statement, 7, customer.getPhone());
+		bindNullable(statement, 8, customer.getEmail());
+		statement.bind(9, customer.getCreatedAt()).bind(10, customer.getUpdatedAt());
+	}
+
+	private void bindNullable(Statement statement, int index, String value) {
+		if (value == null) {
+			statement.bindNull(index, String.class);
+		} else {
+			statement.bind(index, value);
+		}
+	}
+}
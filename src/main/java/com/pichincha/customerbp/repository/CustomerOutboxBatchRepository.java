@@ -0,0 +1,13 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+
+import reactor.core.publisher.Mono;
+
+public interface CustomerOutboxBatchRepository {
+
+	Mono<Void> insertBatch(List<CustomerOutboxEntity> events);
+
+}
@@ -0,0 +1,52 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+
+import io.r2dbc.spi.Statement;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class CustomerOutboxBatchRepositoryImpl implements CustomerOutboxBatchRepository {
+
+	private static final String INSERT_QUERY = "INSERT INTO customer_outbox (customer_id, event_type, version, "
+			+ "payload, occurred_at) VALUES ($1, $2, $3, $4, $5)";
+
+	private final R2dbcEntityTemplate entityTemplate;
+
+	@Override
+	public Mono<Void> insertBatch(List<CustomerOutboxEntity> events) {
+		if (events.isEmpty()) {
+			return Mono.empty();
+		}
+		return entityTemplate.getDatabaseClient().inConnectionMany(connection -> {
+			Statement statement = connection.createStatement(INSERT_QUERY);
+			for (int i = 0; i < events.size(); i++) {
+				if (i > 0) {
+					statement.add();
+				}
+				bind(statement, events.get(i));
+			}
+			return Flux.from(statement.execute()).concatMap(result -> result.getRowsUpdated());
+		}).then();
+	}
+
+	private void bind(Statement statement, CustomerOutboxEntity event) {
+		statement.bind(0, event.getCustomerId()).bind(1, event.getEventType()).bind(4, event.getOccurredAt());
+		if (event.getVersion() == null) {
+			statement.bindNull(2, Long.class);
+		} else {
+			statement.bind(2, event.getVersion());
+		}
+		if (event.getPayload() == null) {
+			statement.bindNull(3, String.class);
+		} else {
+			statement.bind(3, event.getPayload());
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.pichincha.customerbp.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CustomerOutboxRepository
+		extends ReactiveCrudRepository<CustomerOutboxEntity, Long>, CustomerOutboxBatchRepository {
+
+	@Query("SELECT * FROM customer_outbox WHERE sequence_number > :afterSequence "
+			+ "ORDER BY sequence_number LIMIT :limit")
+	Flux<CustomerOutboxEntity> findAfter(long afterSequence, int limit);
+
+	@Query("SELECT LOCALTIMESTAMP")
+	Mono<LocalDateTime> currentTimestamp();
+
+	@Modifying
+	@Query("DELETE FROM customer_outbox WHERE occurred_at < :cutoff AND EXISTS (SELECT 1 FROM customer_outbox newer "
+			+ "WHERE newer.customer_id = customer_outbox.customer_id "
+			+ "AND newer.sequence_number > customer_outbox.sequence_number)")
+	Mono<Integer> deleteSupersededBefore(LocalDateTime cutoff);
+
+	@Modifying
+	@Query("DELETE FROM customer_outbox WHERE occurred_at < :cutoff")
+	Mono<Integer> deleteBefore(LocalDateTime cutoff);
+}
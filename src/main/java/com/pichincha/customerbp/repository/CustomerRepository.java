@@ -1,7 +1,39 @@
 package com.pichincha.customerbp.repository;
 
+import java.util.Collection;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import com.pichincha.customerbp.domain.CustomerEntity;
 
-public interface CustomerRepository extends ReactiveCrudRepository<CustomerEntity, Long> {
-}
\ No newline at end of file
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface CustomerRepository
+		extends ReactiveCrudRepository<CustomerEntity, Long>, CustomerStreamRepository,
+		CustomerBatchRepository, CustomerWriteRepository, CustomerSearchRepository {
+
+	@Query("SELECT * FROM customer WHERE customer_id > :afterId ORDER BY customer_id LIMIT :limit")
+	Flux<CustomerEntity> findPageAfter(Long afterId, int limit);
+
+	@Query("SELECT * FROM customer WHERE customer_id IN (:customerIds)")
+	Flux<CustomerEntity> findByCustomerIds(Collection<Long> customerIds);
+
+	@Query("SELECT identification FROM customer WHERE identification IN (:identifications)")
+	Flux<String> findExistingIdentifications(Collection<String> identifications);
+
+	@Query("SELECT identification FROM customer")
+	Flux<String> findAllIdentifications();
+
+	@Query("SELECT customer_id, version, updated_at FROM customer WHERE customer_id = :customerId")
+	Mono<CustomerEntity> findRevisionById(Long customerId);
+
+	Mono<CustomerEntity> findByIdentification(String identification);
+
+	Mono<Boolean> existsByIdentification(String identification);
+
+	@Modifying
+	@Query("DELETE FROM customer WHERE customer_id = :customerId")
+	Mono<Integer> deleteByCustomerId(Long customerId);
+}
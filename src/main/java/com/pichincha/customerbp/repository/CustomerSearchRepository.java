@@ -0,0 +1,15 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.Collection;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+
+import reactor.core.publisher.Flux;
+
+public interface CustomerSearchRepository {
+
+	Flux<CustomerEntity> search(CustomerSearchCriteria criteria, Collection<String> columns, long afterId,
+			int limit);
+
+}
@@ -0,0 +1,56 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.dialect.Escaper;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class CustomerSearchRepositoryImpl implements CustomerSearchRepository {
+
+	private static final String CUSTOMER_ID = "customerId";
+
+	private final R2dbcEntityTemplate entityTemplate;
+
+	@Override
+	public Flux<CustomerEntity> search(CustomerSearchCriteria criteria, Collection<String> columns, long afterId,
+			int limit) {
+		Query query = Query.query(toCriteria(criteria, afterId))
+				.columns(columns)
+				.sort(Sort.by(CUSTOMER_ID))
+				.limit(limit);
+		return entityTemplate.select(query, CustomerEntity.class);
+	}
+
+	private Criteria toCriteria(CustomerSearchCriteria criteria, long afterId) {
+		Criteria where = Criteria.where(CUSTOMER_ID).greaterThan(afterId);
+		if (criteria.active() != null) {
+			where = where.and("status").is(criteria.active());
+		}
+		if (criteria.minAge() != null) {
+			where = where.and("age").greaterThanOrEquals(criteria.minAge());
+		}
+		if (criteria.maxAge() != null) {
+			where = where.and("age").lessThanOrEquals(criteria.maxAge());
+		}
+		if (criteria.gender() != null) {
+			where = where.and("gender").is(criteria.gender());
+		}
+		if (criteria.namePrefix() != null) {
+			where = where.and("name").like(Escaper.DEFAULT.escape(criteria.namePrefix()) + "%");
+		}
+		if (criteria.email() != null) {
+			where = where.and("email").is(criteria.email());
+		}
+		return where;
+	}
+}
@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.repository;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+
+import reactor.core.publisher.Flux;
+
+public interface CustomerStreamRepository {
+
+	Flux<CustomerEntity> streamAfter(Long afterId, int fetchSize);
+
+}
@@ -0,0 +1,27 @@
+package com.pichincha.customerbp.repository;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+
+@RequiredArgsConstructor
+public class CustomerStreamRepositoryImpl implements CustomerStreamRepository {
+
+	private static final String STREAM_QUERY =
+			"SELECT * FROM customer WHERE customer_id > :afterId ORDER BY customer_id";
+
+	private final R2dbcEntityTemplate entityTemplate;
+
+	@Override
+	public Flux<CustomerEntity> streamAfter(Long afterId, int fetchSize) {
+		return entityTemplate.getDatabaseClient().sql(STREAM_QUERY)
+				.bind("afterId", afterId)
+				.filter(statement -> statement.fetchSize(fetchSize))
+				.map((row, metadata) -> entityTemplate.getConverter()
+						.read(CustomerEntity.class, row, metadata))
+				.all();
+	}
+}
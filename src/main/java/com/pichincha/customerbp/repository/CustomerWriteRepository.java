@@ -0,0 +1,11 @@
+package com.pichincha.customerbp.repository;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+
+import reactor.core.publisher.Mono;
+
+public interface CustomerWriteRepository {
+
+	Mono<CustomerEntity> updateReturning(CustomerEntity customer);
+
+}
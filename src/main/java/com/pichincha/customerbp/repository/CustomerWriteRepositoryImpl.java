@@ -0,0 +1,61 @@
+package com.pichincha.customerbp.repository;
+
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+import org.springframework.data.r2dbc.dialect.H2Dialect;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+
+import reactor.core.publisher.Mono;
+
+public class CustomerWriteRepositoryImpl implements CustomerWriteRepository {
+
+	private static final String UPDATE_STATEMENT = "UPDATE customer SET name = :name, "
+			+ "gender = :gender, age = :age, identification = :identification, address = :address, "
+			+ "phone = :phone, email = :email, password = :password, status = :status, "
+			+ "version = version + 1, updated_at = :updatedAt WHERE customer_id = :customerId";
+	private static final String VERSION_CONDITION = " AND version = :version";
+	private static final String RETURNING_CLAUSE = " RETURNING *";
+	private static final String DELTA_TABLE_QUERY = "SELECT * FROM FINAL TABLE (%s)";
+
+	private final R2dbcEntityTemplate entityTemplate;
+	private final boolean deltaTableSyntax;
+
+	public CustomerWriteRepositoryImpl(R2dbcEntityTemplate entityTemplate) {
+		this.entityTemplate = entityTemplate;
+		this.deltaTableSyntax = DialectResolver.getDialect(
+				entityTemplate.getDatabaseClient().getConnectionFactory()) instanceof H2Dialect;
+	}
+
+	@Override
+	public Mono<CustomerEntity> updateReturning(CustomerEntity customer) {
+		GenericExecuteSpec statement = entityTemplate.getDatabaseClient()
+				.sql(updateQuery(customer.getVersion() != null))
+				.bind("customerId", customer.getCustomerId())
+				.bind("name", customer.getName())
+				.bind("gender", customer.getGender())
+				.bind("age", customer.getAge())
+				.bind("address", customer.getAddress())
+				.bind("password", customer.getPassword())
+				.bind("status", customer.isStatus())
+				.bind("updatedAt", customer.getUpdatedAt());
+		statement = bindNullable(statement, "identification", customer.getIdentification());
+		statement = bindNullable(statement, "phone", customer.getPhone());
+		statement = bindNullable(statement, "email", customer.getEmail());
+		if (customer.getVersion() != null) {
+			statement = statement.bind("version", customer.getVersion());
+		}
+		return statement.map((row, metadata) -> entityTemplate.getConverter()
+				.read(CustomerEntity.class, row, metadata)).one();
+	}
+
+	private String updateQuery(boolean versioned) {
+		String update = versioned ? UPDATE_STATEMENT + VERSION_CONDITION : UPDATE_STATEMENT;
+		return deltaTableSyntax ? DELTA_TABLE_QUERY.formatted(update) : update + RETURNING_CLAUSE;
+	}
+
+	private GenericExecuteSpec bindNullable(GenericExecuteSpec statement, String name, String value) {
+		return value == null ? statement.bindNull(name, String.class) : statement.bind(name, value);
+	}
+}
@@ -0,0 +1,53 @@
+package com.pichincha.customerbp.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class FileTransactionalLogRepository implements TransactionalLogRepository {
+
+	private final Path file;
+	private final ObjectMapper objectMapper;
+
+	public FileTransactionalLogRepository(Path file, ObjectMapper objectMapper) {
+		this.file = file;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public Mono<Void> publish(List<TransactionalLogRecord> batch) {
+		return Mono.<Void>fromRunnable(() -> append(batch)).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	private void append(List<TransactionalLogRecord> batch) {
+		StringBuilder lines = new StringBuilder(batch.size() * 256);
+		for (TransactionalLogRecord record : batch) {
+			lines.append(toJson(record)).append('\n');
+		}
+		try {
+			Files.writeString(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String toJson(TransactionalLogRecord record) {
+		try {
+			return objectMapper.writeValueAsString(record);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
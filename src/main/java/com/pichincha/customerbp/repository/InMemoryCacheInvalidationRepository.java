@@ -0,0 +1,29 @@
+package com.pichincha.customerbp.repository;
+
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+public class InMemoryCacheInvalidationRepository implements CacheInvalidationRepository {
+
+	private final Sinks.Many<CacheInvalidationEvent> events =
+			Sinks.many().multicast().directBestEffort();
+
+	@Override
+	public Mono<Void> publish(CacheInvalidationEvent event) {
+		return Mono.fromRunnable(() -> events.emitNext(event,
+				(signal, result) -> result == Sinks.EmitResult.FAIL_NON_SERIALIZED));
+	}
+
+	@Override
+	public Flux<CacheInvalidationEvent> invalidations() {
+		return events.asFlux();
+	}
+
+	@Override
+	public Mono<Void> ready() {
+		return Mono.empty();
+	}
+}
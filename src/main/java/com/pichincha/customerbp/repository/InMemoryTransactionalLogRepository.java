@@ -0,0 +1,22 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+
+import reactor.core.publisher.Mono;
+
+public class InMemoryTransactionalLogRepository implements TransactionalLogRepository {
+
+	private final List<List<TransactionalLogRecord>> batches = new CopyOnWriteArrayList<>();
+
+	@Override
+	public Mono<Void> publish(List<TransactionalLogRecord> batch) {
+		return Mono.fromRunnable(() -> batches.add(List.copyOf(batch)));
+	}
+
+	public List<List<TransactionalLogRecord>> batches() {
+		return List.copyOf(batches);
+	}
+}
@@ -0,0 +1,176 @@
+package com.pichincha.customerbp.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import javax.sql.DataSource;
+
+import org.reactivestreams.Publisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+public class JdbcCustomerOutboxRepository implements CustomerOutboxRepository {
+
+	private static final String INSERT_QUERY = "INSERT INTO customer_outbox (customer_id, event_type, version, "
+			+ "payload, occurred_at) VALUES (?, ?, ?, ?, ?)";
+
+	private final CustomerOutboxRepository readRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcClient jdbcClient;
+	private final DataSource dataSource;
+	private final Scheduler scheduler;
+
+	public JdbcCustomerOutboxRepository(CustomerOutboxRepository readRepository, JdbcTemplate jdbcTemplate,
+			Scheduler scheduler) {
+		this.readRepository = readRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.jdbcClient = JdbcClient.create(jdbcTemplate);
+		this.dataSource = jdbcTemplate.getDataSource();
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public <S extends CustomerOutboxEntity> Mono<S> save(S event) {
+		if (event.getSequenceNumber() != null) {
+			return readRepository.save(event);
+		}
+		return call(() -> {
+			GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+			jdbcClient.sql(INSERT_QUERY)
+					.params(event.getCustomerId(), event.getEventType(), event.getVersion(), event.getPayload(),
+							event.getOccurredAt())
+					.update(keyHolder, "sequence_number");
+			event.setSequenceNumber(keyHolder.getKeyAs(Long.class));
+			return event;
+		});
+	}
+
+	@Override
+	public <S extends CustomerOutboxEntity> Flux<S> saveAll(Iterable<S> events) {
+		return Flux.fromIterable(events).concatMap(this::save);
+	}
+
+	@Override
+	public <S extends CustomerOutboxEntity> Flux<S> saveAll(Publisher<S> events) {
+		return Flux.from(events).concatMap(this::save);
+	}
+
+	@Override
+	public Mono<Void> insertBatch(List<CustomerOutboxEntity> events) {
+		if (events.isEmpty()) {
+			return Mono.empty();
+		}
+		return call(() -> jdbcTemplate.batchUpdate(INSERT_QUERY, events.stream()
+				.map(event -> new Object[] { event.getCustomerId(), event.getEventType(), event.getVersion(),
+						event.getPayload(), event.getOccurredAt() })
+				.toList())).then();
+	}
+
+	@Override
+	public Flux<CustomerOutboxEntity> findAfter(long afterSequence, int limit) {
+		return readRepository.findAfter(afterSequence, limit);
+	}
+
+	@Override
+	public Mono<LocalDateTime> currentTimestamp() {
+		return readRepository.currentTimestamp();
+	}
+
+	@Override
+	public Mono<Integer> deleteSupersededBefore(LocalDateTime cutoff) {
+		return readRepository.deleteSupersededBefore(cutoff);
+	}
+
+	@Override
+	public Mono<Integer> deleteBefore(LocalDateTime cutoff) {
+		return readRepository.deleteBefore(cutoff);
+	}
+
+	@Override
+	public Mono<CustomerOutboxEntity> findById(Long sequenceNumber) {
+		return readRepository.findById(sequenceNumber);
+	}
+
+	@Override
+	public Mono<CustomerOutboxEntity> findById(Publisher<Long> sequenceNumber) {
+		return readRepository.findById(sequenceNumber);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Long sequenceNumber) {
+		return readRepository.existsById(sequenceNumber);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<Long> sequenceNumber) {
+		return readRepository.existsById(sequenceNumber);
+	}
+
+	@Override
+	public Flux<CustomerOutboxEntity> findAll() {
+		return readRepository.findAll();
+	}
+
+	@Override
+	public Flux<CustomerOutboxEntity> findAllById(Iterable<Long> sequenceNumbers) {
+		return readRepository.findAllById(sequenceNumbers);
+	}
+
+	@Override
+	public Flux<CustomerOutboxEntity> findAllById(Publisher<Long> sequenceNumbers) {
+		return readRepository.findAllById(sequenceNumbers);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return readRepository.count();
+	}
+
+	@Override
+	public Mono<Void> deleteById(Long sequenceNumber) {
+		return readRepository.deleteById(sequenceNumber);
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<Long> sequenceNumber) {
+		return readRepository.deleteById(sequenceNumber);
+	}
+
+	@Override
+	public Mono<Void> delete(CustomerOutboxEntity event) {
+		return readRepository.delete(event);
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends Long> sequenceNumbers) {
+		return readRepository.deleteAllById(sequenceNumbers);
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends CustomerOutboxEntity> events) {
+		return readRepository.deleteAll(events);
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends CustomerOutboxEntity> events) {
+		return readRepository.deleteAll(events);
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return readRepository.deleteAll();
+	}
+
+	private <T> Mono<T> call(Callable<T> statement) {
+		return Mono.deferContextual(context -> Mono.fromCallable(
+				() -> JdbcTransaction.run(context, dataSource, statement))).subscribeOn(scheduler);
+	}
+}
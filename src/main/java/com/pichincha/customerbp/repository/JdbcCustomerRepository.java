@@ -0,0 +1,415 @@
+package com.pichincha.customerbp.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import javax.sql.DataSource;
+
+import org.reactivestreams.Publisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.relational.core.dialect.Escaper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+public class JdbcCustomerRepository implements CustomerRepository {
+
+	private static final String SELECT_CUSTOMER = "SELECT * FROM customer";
+	private static final String BY_ID_QUERY = SELECT_CUSTOMER + " WHERE customer_id = :customerId";
+	private static final String BY_IDS_QUERY = SELECT_CUSTOMER + " WHERE customer_id IN (:customerIds)";
+	private static final String BY_IDENTIFICATION_QUERY =
+			SELECT_CUSTOMER + " WHERE identification = :identification";
+	private static final String PAGE_QUERY =
+			SELECT_CUSTOMER + " WHERE customer_id > :afterId ORDER BY customer_id LIMIT :limit";
+	private static final String STREAM_QUERY = SELECT_CUSTOMER + " WHERE customer_id > ? ORDER BY customer_id";
+	private static final String REVISION_QUERY =
+			"SELECT customer_id, version, updated_at FROM customer WHERE customer_id = :customerId";
+	private static final String EXISTS_BY_ID_QUERY = "SELECT 1 FROM customer WHERE customer_id = :customerId";
+	private static final String EXISTS_BY_IDENTIFICATION_QUERY =
+			"SELECT 1 FROM customer WHERE identification = :identification";
+	private static final String EXISTING_IDENTIFICATIONS_QUERY =
+			"SELECT identification FROM customer WHERE identification IN (:identifications)";
+	private static final String IDENTIFICATIONS_QUERY = "SELECT identification FROM customer";
+	private static final String COUNT_QUERY = "SELECT COUNT(*) FROM customer";
+	private static final String INSERT_QUERY = "INSERT INTO customer (password, status, name, gender, age, "
+			+ "identification, address, phone, email, version, created_at, updated_at) VALUES (:password, "
+			+ ":status, :name, :gender, :age, :identification, :address, :phone, :email, :version, :createdAt, "
+			+ ":updatedAt)";
+	private static final String INSERT_WITH_ID_QUERY = "INSERT INTO customer (customer_id, password, status, "
+			+ "name, gender, age, identification, address, phone, email, version, created_at, updated_at) VALUES "
+			+ "(:customerId, :password, :status, :name, :gender, :age, :identification, :address, :phone, "
+			+ ":email, :version, :createdAt, :updatedAt)";
+	private static final String BATCH_INSERT_QUERY = "INSERT INTO customer (password, status, name, gender, "
+			+ "age, identification, address, phone, email, created_at, updated_at) "
+			+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String UPDATE_STATEMENT = "UPDATE customer SET name = :name, "
+			+ "gender = :gender, age = :age, identification = :identification, address = :address, "
+			+ "phone = :phone, email = :email, password = :password, status = :status, "
+			+ "version = version + 1, updated_at = :updatedAt WHERE customer_id = :customerId";
+	private static final String VERSION_CONDITION = " AND version = :version";
+	private static final String RETURNING_CLAUSE = " RETURNING *";
+	private static final String DELTA_TABLE_QUERY = "SELECT * FROM FINAL TABLE (%s)";
+	private static final String DELETE_BY_ID_QUERY = "DELETE FROM customer WHERE customer_id = :customerId";
+	private static final String DELETE_BY_IDS_QUERY = "DELETE FROM customer WHERE customer_id IN (:customerIds)";
+	private static final String DELETE_ALL_QUERY = "DELETE FROM customer";
+	private static final RowMapper<CustomerEntity> CUSTOMER_MAPPER = JdbcCustomerRepository::toEntity;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final JdbcClient jdbcClient;
+	private final DataSource dataSource;
+	private final Scheduler scheduler;
+	private final boolean deltaTableSyntax;
+
+	public JdbcCustomerRepository(JdbcTemplate jdbcTemplate, Scheduler scheduler) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.jdbcClient = JdbcClient.create(jdbcTemplate);
+		this.dataSource = jdbcTemplate.getDataSource();
+		this.scheduler = scheduler;
+		this.deltaTableSyntax = "H2".equals(jdbcTemplate.execute(
+				(ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+	}
+
+	@Override
+	public Mono<CustomerEntity> findById(Long customerId) {
+		return call(() -> jdbcClient.sql(BY_ID_QUERY)
+				.param("customerId", customerId)
+				.query(CUSTOMER_MAPPER)
+				.optional()
+				.orElse(null));
+	}
+
+	@Override
+	public Mono<CustomerEntity> findById(Publisher<Long> customerId) {
+		return Mono.from(customerId).flatMap(this::findById);
+	}
+
+	@Override
+	public Flux<CustomerEntity> findByCustomerIds(Collection<Long> customerIds) {
+		if (customerIds.isEmpty()) {
+			return Flux.empty();
+		}
+		return list(() -> jdbcClient.sql(BY_IDS_QUERY)
+				.param("customerIds", customerIds)
+				.query(CUSTOMER_MAPPER)
+				.list());
+	}
+
+	@Override
+	public Flux<CustomerEntity> findAllById(Iterable<Long> customerIds) {
+		return findByCustomerIds(StreamSupport.stream(customerIds.spliterator(), false).toList());
+	}
+
+	@Override
+	public Flux<CustomerEntity> findAllById(Publisher<Long> customerIds) {
+		return Flux.from(customerIds).collectList().flatMapMany(this::findByCustomerIds);
+	}
+
+	@Override
+	public Flux<CustomerEntity> findAll() {
+		return list(() -> jdbcClient.sql(SELECT_CUSTOMER).query(CUSTOMER_MAPPER).list());
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return call(() -> jdbcClient.sql(COUNT_QUERY).query(Long.class).single());
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Long customerId) {
+		return call(() -> jdbcClient.sql(EXISTS_BY_ID_QUERY)
+				.param("customerId", customerId)
+				.query(Integer.class)
+				.optional()
+				.isPresent());
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<Long> customerId) {
+		return Mono.from(customerId).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<CustomerEntity> findPageAfter(Long afterId, int limit) {
+		return list(() -> jdbcClient.sql(PAGE_QUERY)
+				.param("afterId", afterId)
+				.param("limit", limit)
+				.query(CUSTOMER_MAPPER)
+				.list());
+	}
+
+	@Override
+	public Flux<CustomerEntity> streamAfter(Long afterId, int fetchSize) {
+		return Flux.fromStream(() -> jdbcTemplate.queryForStream(connection -> {
+			PreparedStatement statement = connection.prepareStatement(STREAM_QUERY);
+			statement.setLong(1, afterId);
+			statement.setFetchSize(fetchSize);
+			return statement;
+		}, CUSTOMER_MAPPER)).subscribeOn(scheduler);
+	}
+
+	@Override
+	public Flux<CustomerEntity> search(CustomerSearchCriteria criteria, Collection<String> columns, long afterId,
+			int limit) {
+		StringBuilder sql = new StringBuilder("SELECT ").append(String.join(", ", columns))
+				.append(" FROM customer WHERE customer_id > :afterId");
+		Map<String, Object> params = new HashMap<>();
+		params.put("afterId", afterId);
+		params.put("limit", limit);
+		where(sql, params, "status = :active", criteria.active());
+		where(sql, params, "age >= :minAge", criteria.minAge());
+		where(sql, params, "age <= :maxAge", criteria.maxAge());
+		where(sql, params, "gender = :gender", criteria.gender());
+		where(sql, params, "name LIKE :namePrefix", criteria.namePrefix() == null ? null
+				: Escaper.DEFAULT.escape(criteria.namePrefix()) + "%");
+		where(sql, params, "email = :email", criteria.email());
+		sql.append(" ORDER BY customer_id LIMIT :limit");
+		return list(() -> jdbcClient.sql(sql.toString()).params(params).query(CUSTOMER_MAPPER).list());
+	}
+
+	@Override
+	public Flux<String> findExistingIdentifications(Collection<String> identifications) {
+		if (identifications.isEmpty()) {
+			return Flux.empty();
+		}
+		return list(() -> jdbcClient.sql(EXISTING_IDENTIFICATIONS_QUERY)
+				.param("identifications", identifications)
+				.query(String.class)
+				.list());
+	}
+
+	@Override
+	public Flux<String> findAllIdentifications() {
+		return list(() -> jdbcClient.sql(IDENTIFICATIONS_QUERY).query(String.class).list());
+	}
+
+	@Override
+	public Mono<CustomerEntity> findRevisionById(Long customerId) {
+		return call(() -> jdbcClient.sql(REVISION_QUERY)
+				.param("customerId", customerId)
+				.query(CUSTOMER_MAPPER)
+				.optional()
+				.orElse(null));
+	}
+
+	@Override
+	public Mono<CustomerEntity> findByIdentification(String identification) {
+		return call(() -> jdbcClient.sql(BY_IDENTIFICATION_QUERY)
+				.param("identification", identification)
+				.query(CUSTOMER_MAPPER)
+				.optional()
+				.orElse(null));
+	}
+
+	@Override
+	public Mono<Boolean> existsByIdentification(String identification) {
+		return call(() -> jdbcClient.sql(EXISTS_BY_IDENTIFICATION_QUERY)
+				.param("identification", identification)
+				.query(Integer.class)
+				.optional()
+				.isPresent());
+	}
+
+	@Override
+	public <S extends CustomerEntity> Mono<S> save(S customer) {
+		return call(() -> customer.getCustomerId() == null || customer.getVersion() == null ? insert(customer)
+				: update(customer));
+	}
+
+	@Override
+	public <S extends CustomerEntity> Flux<S> saveAll(Iterable<S> customers) {
+		return Flux.fromIterable(customers).concatMap(this::save);
+	}
+
+	@Override
+	public <S extends CustomerEntity> Flux<S> saveAll(Publisher<S> customers) {
+		return Flux.from(customers).concatMap(this::save);
+	}
+
+	@Override
+	public Flux<Long> insertBatch(List<CustomerEntity> customers) {
+		if (customers.isEmpty()) {
+			return Flux.empty();
+		}
+		return list(() -> jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(BATCH_INSERT_QUERY,
+					new String[] { "customer_id" })) {
+				for (CustomerEntity customer : customers) {
+					bind(statement, customer);
+					statement.addBatch();
+				}
+				statement.executeBatch();
+				return generatedIds(statement, customers.size());
+			}
+		}));
+	}
+
+	@Override
+	public Mono<CustomerEntity> updateReturning(CustomerEntity customer) {
+		return call(() -> jdbcClient.sql(updateQuery(customer.getVersion() != null))
+				.paramSource(customer)
+				.query(CUSTOMER_MAPPER)
+				.optional()
+				.orElse(null));
+	}
+
+	@Override
+	public Mono<Integer> deleteByCustomerId(Long customerId) {
+		return call(() -> jdbcClient.sql(DELETE_BY_ID_QUERY).param("customerId", customerId).update());
+	}
+
+	@Override
+	public Mono<Void> deleteById(Long customerId) {
+		return deleteByCustomerId(customerId).then();
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<Long> customerId) {
+		return Mono.from(customerId).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(CustomerEntity customer) {
+		return deleteById(customer.getCustomerId());
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends Long> customerIds) {
+		List<? extends Long> ids = StreamSupport.stream(customerIds.spliterator(), false).toList();
+		if (ids.isEmpty()) {
+			return Mono.empty();
+		}
+		return call(() -> jdbcClient.sql(DELETE_BY_IDS_QUERY).param("customerIds", ids).update()).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends CustomerEntity> customers) {
+		return deleteAllById(StreamSupport.stream(customers.spliterator(), false)
+				.map(CustomerEntity::getCustomerId)
+				.toList());
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends CustomerEntity> customers) {
+		return Flux.from(customers).map(CustomerEntity::getCustomerId).collectList().flatMap(this::deleteAllById);
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return call(() -> jdbcClient.sql(DELETE_ALL_QUERY).update()).then();
+	}
+
+	private <S extends CustomerEntity> S insert(S customer) {
+		if (customer.getVersion() == null) {
+			customer.setVersion(0L);
+		}
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcClient.sql(customer.getCustomerId() == null ? INSERT_QUERY : INSERT_WITH_ID_QUERY)
+				.paramSource(customer)
+				.update(keyHolder, "customer_id");
+		if (customer.getCustomerId() == null) {
+			customer.setCustomerId(keyHolder.getKeyAs(Long.class));
+		}
+		return customer;
+	}
+
+	private <S extends CustomerEntity> S update(S customer) {
+		if (jdbcClient.sql(UPDATE_STATEMENT + VERSION_CONDITION).paramSource(customer).update() == 0) {
+			throw new OptimisticLockingFailureException("Customer %d was modified or deleted concurrently"
+					.formatted(customer.getCustomerId()));
+		}
+		customer.setVersion(customer.getVersion() + 1);
+		return customer;
+	}
+
+	private String updateQuery(boolean versioned) {
+		String update = versioned ? UPDATE_STATEMENT + VERSION_CONDITION : UPDATE_STATEMENT;
+		return deltaTableSyntax ? DELTA_TABLE_QUERY.formatted(update) : update + RETURNING_CLAUSE;
+	}
+
+	private <T> Mono<T> call(Callable<T> query) {
+		return Mono.deferContextual(context -> Mono.fromCallable(
+				() -> JdbcTransaction.run(context, dataSource, query))).subscribeOn(scheduler);
+	}
+
+	private <T> Flux<T> list(Callable<List<T>> query) {
+		return call(query).flatMapIterable(Function.identity());
+	}
+
+	private static void where(StringBuilder sql, Map<String, Object> params, String condition, Object value) {
+		if (value == null) {
+			return;
+		}
+		sql.append(" AND ").append(condition);
+		params.put(condition.substring(condition.indexOf(':') + 1), value);
+	}
+
+	private static void bind(PreparedStatement statement, CustomerEntity customer) throws SQLException {
+		statement.setString(1, customer.getPassword());
+		statement.setBoolean(2, customer.isStatus());
+		statement.setString(3, customer.getName());
+		statement.setString(4, customer.getGender());
+		statement.setInt(5, customer.getAge());
+		statement.setString(6, customer.getIdentification());
+		statement.setString(7, customer.getAddress());
+		statement.setString(8, customer.getPhone());
+		statement.setString(9, customer.getEmail());
+		statement.setObject(10, customer.getCreatedAt());
+		statement.setObject(11, customer.getUpdatedAt());
+	}
+
+	private static List<Long> generatedIds(PreparedStatement statement, int size) throws SQLException {
+		List<Long> ids = new ArrayList<>(size);
+		try (ResultSet keys = statement.getGeneratedKeys()) {
+			while (keys.next()) {
+				ids.add(keys.getLong(1));
+			}
+		}
+		return ids;
+	}
+
+	private static CustomerEntity toEntity(ResultSet resultSet, int rowNum) throws SQLException {
+		ResultSetMetaData metaData = resultSet.getMetaData();
+		CustomerEntity customer = new CustomerEntity();
+		for (int column = 1; column <= metaData.getColumnCount(); column++) {
+			switch (metaData.getColumnLabel(column).toLowerCase(Locale.ROOT)) {
+			case "customer_id" -> customer.setCustomerId(resultSet.getLong(column));
+			case "name" -> customer.setName(resultSet.getString(column));
+			case "gender" -> customer.setGender(resultSet.getString(column));
+			case "age" -> customer.setAge(resultSet.getInt(column));
+			case "identification" -> customer.setIdentification(resultSet.getString(column));
+			case "address" -> customer.setAddress(resultSet.getString(column));
+			case "phone" -> customer.setPhone(resultSet.getString(column));
+			case "email" -> customer.setEmail(resultSet.getString(column));
+			case "password" -> customer.setPassword(resultSet.getString(column));
+			case "status" -> customer.setStatus(resultSet.getBoolean(column));
+			case "version" -> customer.setVersion(resultSet.getObject(column, Long.class));
+			case "created_at" -> customer.setCreatedAt(resultSet.getObject(column, LocalDateTime.class));
+			case "updated_at" -> customer.setUpdatedAt(resultSet.getObject(column, LocalDateTime.class));
+			default -> {
+			}
+			}
+		}
+		return customer;
+	}
+}
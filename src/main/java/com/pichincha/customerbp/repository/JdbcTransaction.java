@@ -0,0 +1,56 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.concurrent.Callable;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.ReactiveTransaction;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import reactor.util.context.ContextView;
+
+public class JdbcTransaction implements ReactiveTransaction {
+
+	private final TransactionStatus status;
+	private final ConnectionHolder connectionHolder;
+
+	JdbcTransaction(TransactionStatus status, ConnectionHolder connectionHolder) {
+		this.status = status;
+		this.connectionHolder = connectionHolder;
+	}
+
+	public static <T> T run(ContextView context, DataSource dataSource, Callable<T> work) throws Exception {
+		JdbcTransaction transaction = context.getOrDefault(JdbcTransaction.class, null);
+		if (transaction == null || TransactionSynchronizationManager.hasResource(dataSource)) {
+			return work.call();
+		}
+		TransactionSynchronizationManager.bindResource(dataSource, transaction.connectionHolder);
+		try {
+			return work.call();
+		} finally {
+			TransactionSynchronizationManager.unbindResource(dataSource);
+		}
+	}
+
+	@Override
+	public boolean isNewTransaction() {
+		return status.isNewTransaction();
+	}
+
+	@Override
+	public void setRollbackOnly() {
+		status.setRollbackOnly();
+	}
+
+	@Override
+	public boolean isRollbackOnly() {
+		return status.isRollbackOnly();
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return status.isCompleted();
+	}
+}
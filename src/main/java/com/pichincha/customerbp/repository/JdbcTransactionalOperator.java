@@ -0,0 +1,56 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+import java.util.function.Function;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.reactive.TransactionCallback;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.context.ContextView;
+
+public class JdbcTransactionalOperator implements TransactionalOperator {
+
+	private final DataSource dataSource;
+	private final TransactionTemplate transactionTemplate;
+	private final Scheduler scheduler;
+
+	public JdbcTransactionalOperator(DataSourceTransactionManager transactionManager, Scheduler scheduler) {
+		this.dataSource = transactionManager.getDataSource();
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.scheduler = scheduler;
+	}
+
+	@Override
+	public <T> Mono<T> transactional(Mono<T> mono) {
+		return execute(transaction -> mono).singleOrEmpty();
+	}
+
+	@Override
+	public <T> Flux<T> execute(TransactionCallback<T> action) {
+		return Flux.deferContextual(context -> Mono.fromCallable(() -> JdbcTransaction.run(context, dataSource,
+				() -> transactionTemplate.execute(status -> doInTransaction(action, status, context))))
+				.subscribeOn(scheduler)
+				.flatMapIterable(Function.identity()));
+	}
+
+	private <T> List<T> doInTransaction(TransactionCallback<T> action, TransactionStatus status,
+			ContextView context) {
+		JdbcTransaction transaction = new JdbcTransaction(status,
+				(ConnectionHolder) TransactionSynchronizationManager.getResource(dataSource));
+		return Flux.from(action.doInTransaction(transaction))
+				.contextWrite(inner -> inner.put(JdbcTransaction.class, transaction))
+				.contextWrite(context)
+				.collectList()
+				.block();
+	}
+}
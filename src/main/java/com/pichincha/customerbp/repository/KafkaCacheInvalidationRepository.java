@@ -0,0 +1,89 @@
+package com.pichincha.customerbp.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.listener.MessageListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+public class KafkaCacheInvalidationRepository
+		implements CacheInvalidationRepository, MessageListener<String, String>, ConsumerAwareRebalanceListener {
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final String topic;
+	private final Duration publishTimeout;
+	private final Sinks.Many<CacheInvalidationEvent> events =
+			Sinks.many().multicast().directBestEffort();
+	private final Sinks.One<Void> assigned = Sinks.one();
+
+	public KafkaCacheInvalidationRepository(KafkaTemplate<String, String> kafkaTemplate,
+			ObjectMapper objectMapper, String topic, Duration publishTimeout) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.topic = topic;
+		this.publishTimeout = publishTimeout;
+	}
+
+	@Override
+	public Mono<Void> publish(CacheInvalidationEvent event) {
+		return Mono.fromCallable(() -> kafkaTemplate.send(topic, String.valueOf(event.customerId()), toJson(event)))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(sent -> Mono.fromFuture(sent).timeout(publishTimeout))
+				.onErrorResume(error -> {
+					log.warn("Cache invalidation for customer {} not published", event.customerId(), error);
+					return Mono.empty();
+				})
+				.then();
+	}
+
+	@Override
+	public Flux<CacheInvalidationEvent> invalidations() {
+		return events.asFlux();
+	}
+
+	@Override
+	public Mono<Void> ready() {
+		return assigned.asMono();
+	}
+
+	@Override
+	public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+		partitions.forEach(consumer::position);
+		assigned.tryEmitEmpty();
+	}
+
+	@Override
+	public void onMessage(ConsumerRecord<String, String> consumerRecord) {
+		try {
+			CacheInvalidationEvent event =
+					objectMapper.readValue(consumerRecord.value(), CacheInvalidationEvent.class);
+			events.emitNext(event, (signal, result) -> result == Sinks.EmitResult.FAIL_NON_SERIALIZED);
+		} catch (JsonProcessingException e) {
+			log.warn("Skipping malformed cache invalidation at offset {}", consumerRecord.offset(), e);
+		}
+	}
+
+	private String toJson(CacheInvalidationEvent event) {
+		try {
+			return objectMapper.writeValueAsString(event);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+public class KafkaTransactionalLogRepository implements TransactionalLogRepository {
+
+	private final KafkaTemplate<String, String> kafkaTemplate;
+	private final ObjectMapper objectMapper;
+	private final String topic;
+
+	public KafkaTransactionalLogRepository(KafkaTemplate<String, String> kafkaTemplate, ObjectMapper objectMapper,
+			String topic) {
+		this.kafkaTemplate = kafkaTemplate;
+		this.objectMapper = objectMapper;
+		this.topic = topic;
+	}
+
+	@Override
+	public Mono<Void> publish(List<TransactionalLogRecord> batch) {
+		return Mono.fromCallable(() -> send(batch))
+				.subscribeOn(Schedulers.boundedElastic())
+				.flatMap(Mono::fromFuture);
+	}
+
+	private CompletableFuture<Void> send(List<TransactionalLogRecord> batch) {
+		CompletableFuture<?>[] sent = new CompletableFuture<?>[batch.size()];
+		for (int i = 0; i < batch.size(); i++) {
+			TransactionalLogRecord record = batch.get(i);
+			sent[i] = kafkaTemplate.send(topic, record.guid(), toJson(record));
+		}
+		return CompletableFuture.allOf(sent);
+	}
+
+	private String toJson(TransactionalLogRecord record) {
+		try {
+			return objectMapper.writeValueAsString(record);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,33 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Slf4j(topic = "transactional-log")
+public class LoggerTransactionalLogRepository implements TransactionalLogRepository {
+
+	private final ObjectMapper objectMapper;
+
+	public LoggerTransactionalLogRepository(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public Mono<Void> publish(List<TransactionalLogRecord> batch) {
+		return Mono.fromRunnable(() -> batch.forEach(this::write));
+	}
+
+	private void write(TransactionalLogRecord record) {
+		try {
+			log.info(objectMapper.writeValueAsString(record));
+		} catch (JsonProcessingException e) {
+			log.warn("Unable to serialize transactional log record", e);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.pichincha.customerbp.repository;
+
+import java.util.List;
+
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+
+import reactor.core.publisher.Mono;
+
+public interface TransactionalLogRepository {
+
+	Mono<Void> publish(List<TransactionalLogRecord> batch);
+
+}
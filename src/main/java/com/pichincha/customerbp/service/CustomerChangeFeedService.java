@@ -0,0 +1,15 @@
+package com.pichincha.customerbp.service;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange;
+
+import reactor.core.publisher.Flux;
+
+public interface CustomerChangeFeedService {
+
+	/**
+	 * Emits outbox events after the given sequence number in order. When following, the stream
+	 * waits for new commits once caught up instead of completing.
+	 */
+	Flux<CustomerChange> streamChanges(Long after, Integer limit, boolean follow);
+
+}
@@ -1,5 +1,9 @@
 package com.pichincha.customerbp.service;
 
+import java.util.List;
+
+import org.springframework.http.ETag;
+
 import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
 
 import reactor.core.publisher.Mono;
@@ -10,6 +14,12 @@ public interface CustomerCommandService {
 
   Mono<Customer> updateCustomer(Integer id, Mono<Customer> request);
 
+	/**
+	 * Updates the customer only if its current entity tag strongly matches one of the expected
+	 * tags, failing with 412 otherwise or when it changes before the write is applied.
+	 */
+	Mono<Customer> updateCustomerIfMatch(Integer id, Mono<Customer> request, List<ETag> expectedTags);
+
   Mono<Void> deleteCustomer(Integer id);
 
 }
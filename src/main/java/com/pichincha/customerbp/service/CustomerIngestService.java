@@ -0,0 +1,15 @@
+package com.pichincha.customerbp.service;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerBulkResult;
+
+import reactor.core.publisher.Flux;
+
+public interface CustomerIngestService {
+
+	/**
+	 * Validates and inserts raw customer records in bounded batches, emitting one result per
+	 * record in submission order. Duplicate or invalid records are reported, not propagated.
+	 */
+	Flux<CustomerBulkResult> bulkCreateCustomers(Flux<Object> records);
+
+}
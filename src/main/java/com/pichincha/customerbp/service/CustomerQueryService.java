@@ -1,6 +1,10 @@
 package com.pichincha.customerbp.service;
 
 import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.domain.CustomerPage;
+import com.pichincha.customerbp.domain.CustomerRevision;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+import com.pichincha.customerbp.domain.CustomerSearchPage;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -9,6 +13,34 @@ public interface CustomerQueryService {
 
 	Mono<Customer> getCustomerById(Integer id);
 
-	Flux<Customer> getAllCustomers();
+	/**
+	 * Resolves the version and last modification time of a customer from the cache or, on a
+	 * miss, from a probe that reads only those columns.
+	 */
+	Mono<CustomerRevision> getCustomerRevision(Integer id);
 
-}
\ No newline at end of file
+	/**
+	 * Looks a customer up by national identification. Identifications rejected by the
+	 * in-memory membership filter are answered as not found without querying the database.
+	 */
+	Mono<Customer> getCustomerByIdentification(String identification);
+
+	/**
+	 * Returns one keyset page ordered by customer id, starting after the given opaque cursor.
+	 */
+	Mono<CustomerPage> getCustomerPage(Integer limit, String after);
+
+	/**
+	 * Streams customers after the given cursor honoring subscriber demand and the configured
+	 * fetch size, optionally capped to the given limit.
+	 */
+	Flux<Customer> streamCustomers(Integer limit, String after);
+
+	/**
+	 * Returns one keyset page of customers matching the criteria, reading and exposing only the
+	 * requested comma-separated fields.
+	 */
+	Mono<CustomerSearchPage> searchCustomers(CustomerSearchCriteria criteria, String fields, Integer limit,
+			String after);
+
+}
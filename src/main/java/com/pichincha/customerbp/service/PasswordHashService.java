@@ -0,0 +1,13 @@
+package com.pichincha.customerbp.service;
+
+import reactor.core.publisher.Mono;
+
+public interface PasswordHashService {
+
+	/**
+	 * Hashes the raw password on the dedicated hashing scheduler, failing with 503 when its
+	 * bounded queue is full.
+	 */
+	Mono<String> hash(String rawPassword);
+
+}
@@ -0,0 +1,77 @@
+package com.pichincha.customerbp.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Service;
+
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange;
+import com.pichincha.customerbp.configuration.CustomerChangeFeedProperties;
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+import com.pichincha.customerbp.helper.CustomerOutboxHelper;
+import com.pichincha.customerbp.repository.CustomerOutboxRepository;
+import com.pichincha.customerbp.service.CustomerChangeFeedService;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerChangeFeedServiceImpl implements CustomerChangeFeedService {
+
+	private final CustomerOutboxRepository outboxRepository;
+	private final CustomerOutboxHelper outboxHelper;
+	private final CustomerChangeFeedProperties changeFeedProperties;
+
+	@Override
+	public Flux<CustomerChange> streamChanges(Long after, Integer limit, boolean follow) {
+		Flux<CustomerChange> changes = Flux.defer(() -> {
+			AtomicLong cursor = new AtomicLong(after == null ? 0L : after);
+			AtomicBoolean caughtUp = new AtomicBoolean();
+			return Mono.defer(() -> outboxRepository.findAfter(cursor.get(), changeFeedProperties.batchSize())
+					.collectList())
+					.flatMap(page -> settle(page, cursor, caughtUp))
+					.repeatWhen(completions -> completions
+							.takeWhile(ignored -> follow || !caughtUp.get())
+							.concatMap(ignored -> caughtUp.get() ? awaitCommit() : Mono.just(ignored)))
+					.concatMapIterable(Function.identity())
+					.map(outboxHelper::toChange);
+		});
+		return limit == null ? changes : changes.take(limit);
+	}
+
+	private Mono<List<CustomerOutboxEntity>> settle(List<CustomerOutboxEntity> page, AtomicLong cursor,
+			AtomicBoolean caughtUp) {
+		if (page.isEmpty() || page.get(page.size() - 1).getSequenceNumber() - cursor.get() == page.size()) {
+			return Mono.just(settledPrefix(page, cursor, caughtUp, LocalDateTime.MIN));
+		}
+		return outboxRepository.currentTimestamp()
+				.map(now -> settledPrefix(page, cursor, caughtUp, now.minus(changeFeedProperties.gapTimeout())));
+	}
+
+	private List<CustomerOutboxEntity> settledPrefix(List<CustomerOutboxEntity> page, AtomicLong cursor,
+			AtomicBoolean caughtUp, LocalDateTime settledBefore) {
+		long expected = cursor.get() + 1;
+		int settled = 0;
+		for (CustomerOutboxEntity event : page) {
+			if (event.getSequenceNumber() != expected && event.getRecordedAt().isAfter(settledBefore)) {
+				break;
+			}
+			expected = event.getSequenceNumber() + 1;
+			settled++;
+		}
+		if (settled > 0) {
+			cursor.set(page.get(settled - 1).getSequenceNumber());
+		}
+		caughtUp.set(settled < changeFeedProperties.batchSize());
+		return page.subList(0, settled);
+	}
+
+	private Mono<Long> awaitCommit() {
+		return Mono.firstWithSignal(outboxHelper.nextCommit(), Mono.delay(changeFeedProperties.pollInterval()));
+	}
+}
@@ -1,13 +1,30 @@
 package com.pichincha.customerbp.service.impl;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ETag;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange.TypeEnum;
 import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerRevision;
+import com.pichincha.customerbp.exception.CustomerDuplicateException;
+import com.pichincha.customerbp.exception.CustomerNotFoundException;
+import com.pichincha.customerbp.exception.CustomerPreconditionFailedException;
+import com.pichincha.customerbp.exception.CustomerVersionConflictException;
+import com.pichincha.customerbp.helper.CustomerCacheHelper;
+import com.pichincha.customerbp.helper.CustomerOutboxHelper;
+import com.pichincha.customerbp.helper.IdentificationFilterHelper;
+import com.pichincha.customerbp.helper.ReadRoutingHelper;
 import com.pichincha.customerbp.repository.CustomerRepository;
 import com.pichincha.customerbp.service.CustomerCommandService;
+import com.pichincha.customerbp.service.PasswordHashService;
 import com.pichincha.customerbp.service.mapper.CustomerMapper;
+import com.pichincha.customerbp.util.TimestampUtil;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
@@ -19,28 +36,118 @@ public class CustomerCommandServiceImpl implements CustomerCommandService {
 	@Autowired
 	private final CustomerRepository customerRepository;
 	private final CustomerMapper customerMapper;
+	private final CustomerCacheHelper customerCacheHelper;
+	private final IdentificationFilterHelper identificationFilterHelper;
+	private final PasswordHashService passwordHashService;
+	private final CustomerOutboxHelper outboxHelper;
+	private final TransactionalOperator transactionalOperator;
+	private final ReadRoutingHelper readRoutingHelper;
 
 	@Override
 	public Mono<Customer> createCustomer(Mono<Customer> request) {
-		return request.flatMap(customer -> {
-			CustomerEntity entity = customerMapper.toEntity(customer);
-			return customerRepository.save(entity).map(customerMapper::toDto);
-		});
+		return request.flatMap(customer -> ensureIdentificationIsNew(customer.getIdentification())
+				.then(Mono.defer(() -> toHashedEntity(customer)))
+				.map(this::withCreationTime)
+				.flatMap(entity -> customerRepository.save(entity)
+						.flatMap(saved -> outboxHelper.recordChange(TypeEnum.CREATED, saved))
+						.as(transactionalOperator::transactional))
+				.onErrorMap(DataIntegrityViolationException.class,
+						e -> new CustomerDuplicateException(customer.getIdentification())))
+				.doOnNext(created -> outboxHelper.signalCommitted())
+				.delayUntil(created -> readRoutingHelper.recordWrite(created.getCustomerId()))
+				.doOnNext(created -> identificationFilterHelper.register(created.getIdentification()))
+				.map(customerMapper::toDto)
+				.flatMap(created -> customerCacheHelper.refresh(created).thenReturn(created));
 	}
 
 	@Override
 	public Mono<Customer> updateCustomer(Integer id, Mono<Customer> request) {
-		return customerRepository.findById(Long.valueOf(id)).flatMap(existingEntity -> request.map(customer -> {
-			customerMapper.updateEntityFromRequest(customer, existingEntity);
-			return existingEntity;
-		})).flatMap(customerRepository::save).map(customerMapper::toDto)
-				.switchIfEmpty(Mono.error(new RuntimeException("Customer not found")));
+		Long customerId = Long.valueOf(id);
+		return request.flatMap(customer -> toHashedEntity(customer)
+				.map(entity -> withVersion(entity, customerId, customer.getVersion())))
+				.flatMap(entity -> update(entity, Mono.defer(() -> rejectUpdate(entity))));
+	}
+
+	@Override
+	public Mono<Customer> updateCustomerIfMatch(Integer id, Mono<Customer> request, List<ETag> expectedTags) {
+		Long customerId = Long.valueOf(id);
+		return customerRepository.findRevisionById(customerId)
+				.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)))
+				.map(CustomerRevision::of)
+				.filter(revision -> revision.matchesAny(expectedTags))
+				.switchIfEmpty(Mono.error(() -> new CustomerPreconditionFailedException(customerId)))
+				.flatMap(revision -> request.flatMap(this::toHashedEntity)
+						.map(entity -> withVersion(entity, customerId, revision.version())))
+				.flatMap(entity -> update(entity,
+						Mono.error(() -> new CustomerPreconditionFailedException(customerId))));
 	}
 
 	@Override
 	public Mono<Void> deleteCustomer(Integer id) {
-		return customerRepository.findById(Long.valueOf(id))
-				.flatMap(existingEntity -> customerRepository.delete(existingEntity))
-				.switchIfEmpty(Mono.error(new RuntimeException("Customer not found")));
+		Long customerId = Long.valueOf(id);
+		return customerRepository.deleteByCustomerId(customerId)
+				.filter(deletedRows -> deletedRows > 0)
+				.flatMap(deletedRows -> outboxHelper.recordDeletion(customerId).thenReturn(deletedRows))
+				.as(transactionalOperator::transactional)
+				.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)))
+				.doOnNext(deletedRows -> outboxHelper.signalCommitted())
+				.delayUntil(deletedRows -> readRoutingHelper.recordWrite(customerId))
+				.flatMap(deletedRows -> customerCacheHelper.evict(customerId));
+	}
+
+	private Mono<Void> ensureIdentificationIsNew(String identification) {
+		if (!identificationFilterHelper.mightContain(identification)) {
+			return Mono.empty();
+		}
+		return customerRepository.existsByIdentification(identification)
+				.flatMap(exists -> exists
+						? Mono.error(new CustomerDuplicateException(identification))
+						: Mono.empty());
+	}
+
+	private Mono<CustomerEntity> toHashedEntity(Customer customer) {
+		return passwordHashService.hash(customer.getPassword()).map(passwordHash -> {
+			CustomerEntity entity = customerMapper.toEntity(customer);
+			entity.setPassword(passwordHash);
+			return entity;
+		});
+	}
+
+	private Mono<Customer> update(CustomerEntity entity, Mono<CustomerEntity> onNoRowUpdated) {
+		return customerRepository.updateReturning(entity)
+				.flatMap(updated -> outboxHelper.recordChange(TypeEnum.UPDATED, updated))
+				.as(transactionalOperator::transactional)
+				.onErrorMap(DataIntegrityViolationException.class,
+						e -> new CustomerDuplicateException(entity.getIdentification()))
+				.doOnNext(updated -> outboxHelper.signalCommitted())
+				.delayUntil(updated -> readRoutingHelper.recordWrite(updated.getCustomerId()))
+				.switchIfEmpty(onNoRowUpdated)
+				.doOnNext(updated -> identificationFilterHelper.register(updated.getIdentification()))
+				.map(customerMapper::toDto)
+				.flatMap(updated -> customerCacheHelper.refresh(updated).thenReturn(updated));
+	}
+
+	private CustomerEntity withVersion(CustomerEntity entity, Long customerId, Long version) {
+		entity.setCustomerId(customerId);
+		entity.setVersion(version);
+		entity.setUpdatedAt(TimestampUtil.now());
+		return entity;
+	}
+
+	private CustomerEntity withCreationTime(CustomerEntity entity) {
+		entity.setCreatedAt(TimestampUtil.now());
+		entity.setUpdatedAt(entity.getCreatedAt());
+		return entity;
+	}
+
+	private Mono<CustomerEntity> rejectUpdate(CustomerEntity entity) {
+		Long customerId = entity.getCustomerId();
+		if (entity.getVersion() == null) {
+			return Mono.error(new CustomerNotFoundException(customerId));
+		}
+		return customerRepository.existsById(customerId)
+				.flatMap(exists -> Mono.error(exists
+						? new CustomerVersionConflictException(customerId, entity.getVersion())
+						: new CustomerNotFoundException(customerId)));
 	}
-}
\ No newline at end of file
+}
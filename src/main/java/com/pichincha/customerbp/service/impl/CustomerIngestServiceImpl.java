@@ -0,0 +1,205 @@
+package com.pichincha.customerbp.service.impl;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerBulkResult;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerBulkResult.StatusEnum;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange.TypeEnum;
+import com.pichincha.customerbp.configuration.BulkIngestProperties;
+import com.pichincha.customerbp.configuration.PasswordHashingProperties;
+import com.pichincha.customerbp.domain.BulkCustomerRecord;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.helper.CustomerCacheHelper;
+import com.pichincha.customerbp.helper.CustomerOutboxHelper;
+import com.pichincha.customerbp.helper.IdentificationFilterHelper;
+import com.pichincha.customerbp.helper.ReadRoutingHelper;
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.service.CustomerIngestService;
+import com.pichincha.customerbp.service.PasswordHashService;
+import com.pichincha.customerbp.service.mapper.CustomerMapper;
+import com.pichincha.customerbp.util.TimestampUtil;
+
+import io.r2dbc.spi.R2dbcDataIntegrityViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+@RequiredArgsConstructor
+public class CustomerIngestServiceImpl implements CustomerIngestService {
+
+	private static final String DUPLICATE_MESSAGE = "identification already exists";
+
+	private final CustomerRepository customerRepository;
+	private final CustomerMapper customerMapper;
+	private final Validator validator;
+	private final ObjectMapper objectMapper;
+	private final TransactionalOperator transactionalOperator;
+	private final BulkIngestProperties bulkIngestProperties;
+	private final IdentificationFilterHelper identificationFilterHelper;
+	private final PasswordHashService passwordHashService;
+	private final PasswordHashingProperties hashingProperties;
+	private final CustomerOutboxHelper outboxHelper;
+	private final ReadRoutingHelper readRoutingHelper;
+	private final CustomerCacheHelper customerCacheHelper;
+
+	@Override
+	public Flux<CustomerBulkResult> bulkCreateCustomers(Flux<Object> records) {
+		return records.index(this::toRecord)
+				.bufferTimeout(bulkIngestProperties.batchSize(), bulkIngestProperties.batchWindow(), true)
+				.concatMap(this::ingestBatch);
+	}
+
+	private BulkCustomerRecord toRecord(long index, Object rawRecord) {
+		try {
+			Customer customer = objectMapper.convertValue(rawRecord, Customer.class);
+			String violation = validator.validate(customer).stream()
+					.map(error -> error.getPropertyPath() + " " + error.getMessage())
+					.sorted()
+					.collect(Collectors.joining(", "));
+			return new BulkCustomerRecord(index, customer, violation.isEmpty() ? null : violation);
+		} catch (IllegalArgumentException e) {
+			return new BulkCustomerRecord(index, null, "malformed record");
+		}
+	}
+
+	private Flux<CustomerBulkResult> ingestBatch(List<BulkCustomerRecord> batch) {
+		List<BulkCustomerRecord> validRecords = batch.stream().filter(BulkCustomerRecord::isValid)
+				.toList();
+		Flux<CustomerBulkResult> invalidResults = Flux.fromStream(batch.stream()
+				.filter(record -> !record.isValid())
+				.map(record -> result(record, StatusEnum.INVALID).message(record.violation())));
+		return Flux.merge(invalidResults, insertValid(validRecords))
+				.collectSortedList(Comparator.comparing(CustomerBulkResult::getIndex))
+				.flatMapIterable(results -> results)
+				.concatMap(this::registerCreated);
+	}
+
+	private Mono<CustomerBulkResult> registerCreated(CustomerBulkResult result) {
+		if (result.getStatus() != StatusEnum.CREATED) {
+			return Mono.just(result);
+		}
+		identificationFilterHelper.register(result.getIdentification());
+		return customerCacheHelper.announce(result.getCustomerId().longValue(), result.getIdentification())
+				.thenReturn(result);
+	}
+
+	private Flux<CustomerBulkResult> insertValid(List<BulkCustomerRecord> records) {
+		if (records.isEmpty()) {
+			return Flux.empty();
+		}
+		List<String> candidates = records.stream().map(BulkCustomerRecord::identification)
+				.filter(identificationFilterHelper::mightContain)
+				.toList();
+		Mono<Set<String>> existing = candidates.isEmpty() ? Mono.just(Set.of())
+				: customerRepository.findExistingIdentifications(candidates).collect(Collectors.toSet());
+		return existing.flatMapMany(identifications -> splitDuplicates(records, identifications));
+	}
+
+	private Flux<CustomerBulkResult> splitDuplicates(List<BulkCustomerRecord> records,
+			Set<String> existing) {
+		Set<String> seen = new HashSet<>(existing);
+		List<BulkCustomerRecord> freshRecords = new ArrayList<>();
+		List<CustomerBulkResult> duplicates = new ArrayList<>();
+		records.forEach(record -> {
+			if (seen.add(record.identification())) {
+				freshRecords.add(record);
+			} else {
+				duplicates.add(duplicate(record));
+			}
+		});
+		return Flux.fromIterable(duplicates).concatWith(insertFresh(freshRecords));
+	}
+
+	private Flux<CustomerBulkResult> insertFresh(List<BulkCustomerRecord> records) {
+		return Flux.fromIterable(records)
+				.flatMapSequential(this::toHashedEntity, hashingProperties.resolveThreads())
+				.collectList()
+				.flatMapMany(entities -> insertBatch(records, entities))
+				.onErrorResume(e -> Flux.fromIterable(records).map(record -> failed(record, e)));
+	}
+
+	private Mono<CustomerEntity> toHashedEntity(BulkCustomerRecord record) {
+		return passwordHashService.hash(record.customer().getPassword()).map(passwordHash -> {
+			CustomerEntity entity = customerMapper.toEntity(record.customer());
+			entity.setPassword(passwordHash);
+			entity.setCreatedAt(TimestampUtil.now());
+			entity.setUpdatedAt(entity.getCreatedAt());
+			return entity;
+		});
+	}
+
+	private Flux<CustomerBulkResult> insertBatch(List<BulkCustomerRecord> records,
+			List<CustomerEntity> entities) {
+		return customerRepository.insertBatch(entities)
+				.collectList()
+				.flatMap(customerIds -> outboxHelper.recordCreations(withIds(entities, customerIds))
+						.thenReturn(customerIds))
+				.as(transactionalOperator::transactional)
+				.doOnNext(customerIds -> outboxHelper.signalCommitted())
+				.delayUntil(readRoutingHelper::recordWrites)
+				.flatMapIterable(customerIds -> created(records, customerIds))
+				.onErrorResume(this::isConstraintViolation, e -> Flux.range(0, records.size())
+						.concatMap(i -> insertSingle(records.get(i), entities.get(i))));
+	}
+
+	private Mono<CustomerBulkResult> insertSingle(BulkCustomerRecord record, CustomerEntity entity) {
+		return customerRepository.save(entity)
+				.flatMap(saved -> outboxHelper.recordChange(TypeEnum.CREATED, saved))
+				.as(transactionalOperator::transactional)
+				.doOnNext(saved -> outboxHelper.signalCommitted())
+				.delayUntil(saved -> readRoutingHelper.recordWrite(saved.getCustomerId()))
+				.map(saved -> created(record, saved.getCustomerId()))
+				.onErrorResume(this::isConstraintViolation, e -> Mono.just(duplicate(record)))
+				.onErrorResume(e -> Mono.just(failed(record, e)));
+	}
+
+	private List<CustomerEntity> withIds(List<CustomerEntity> entities, List<Long> customerIds) {
+		for (int i = 0; i < entities.size(); i++) {
+			entities.get(i).setCustomerId(customerIds.get(i));
+			entities.get(i).setVersion(0L);
+		}
+		return entities;
+	}
+
+	private List<CustomerBulkResult> created(List<BulkCustomerRecord> records,
+			List<Long> customerIds) {
+		return IntStream.range(0, records.size())
+				.mapToObj(i -> created(records.get(i), customerIds.get(i)))
+				.toList();
+	}
+
+	private CustomerBulkResult created(BulkCustomerRecord record, Long customerId) {
+		return result(record, StatusEnum.CREATED).customerId(customerId.intValue());
+	}
+
+	private CustomerBulkResult duplicate(BulkCustomerRecord record) {
+		return result(record, StatusEnum.DUPLICATE).message(DUPLICATE_MESSAGE);
+	}
+
+	private CustomerBulkResult failed(BulkCustomerRecord record, Throwable error) {
+		return result(record, StatusEnum.FAILED).message(error.getMessage());
+	}
+
+	private CustomerBulkResult result(BulkCustomerRecord record, StatusEnum status) {
+		return new CustomerBulkResult(record.index(), status).identification(record.identification());
+	}
+
+	private boolean isConstraintViolation(Throwable error) {
+		return error instanceof DataIntegrityViolationException
+				|| error instanceof R2dbcDataIntegrityViolationException;
+	}
+}
@@ -1,12 +1,30 @@
 package com.pichincha.customerbp.service.impl;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.configuration.PaginationProperties;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerField;
+import com.pichincha.customerbp.domain.CustomerPage;
+import com.pichincha.customerbp.domain.CustomerRevision;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+import com.pichincha.customerbp.domain.CustomerSearchPage;
+import com.pichincha.customerbp.exception.CustomerNotFoundException;
+import com.pichincha.customerbp.helper.CustomerCacheHelper;
+import com.pichincha.customerbp.helper.CustomerLoaderHelper;
+import com.pichincha.customerbp.helper.IdentificationFilterHelper;
+import com.pichincha.customerbp.helper.ReadRoutingHelper;
 import com.pichincha.customerbp.repository.CustomerRepository;
 import com.pichincha.customerbp.service.CustomerQueryService;
 import com.pichincha.customerbp.service.mapper.CustomerMapper;
+import com.pichincha.customerbp.util.CursorUtil;
 
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
@@ -19,15 +37,99 @@ public class CustomerQueryServiceImpl implements CustomerQueryService {
 	@Autowired
 	private final CustomerRepository customerRepository;
 	private final CustomerMapper customerMapper;
+	private final PaginationProperties paginationProperties;
+	private final CustomerCacheHelper customerCacheHelper;
+	private final IdentificationFilterHelper identificationFilterHelper;
+	private final ReadRoutingHelper readRoutingHelper;
+	private final CustomerLoaderHelper customerLoaderHelper;
 
 	@Override
 	public Mono<Customer> getCustomerById(Integer id) {
-		return customerRepository.findById(Long.valueOf(id)).map(customerMapper::toDto)
-				.switchIfEmpty(Mono.error(new RuntimeException("Customer not found")));
+		Long customerId = Long.valueOf(id);
+		return readRoutingHelper.resolveRole(customerId)
+				.flatMap(role -> customerCacheHelper.getOrLoad(customerId,
+						key -> customerLoaderHelper.load(key, role).map(customerMapper::toDto)))
+				.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)));
+	}
+
+	@Override
+	public Mono<CustomerRevision> getCustomerRevision(Integer id) {
+		Long customerId = Long.valueOf(id);
+		return customerCacheHelper.getIfPresent(customerId)
+				.map(CustomerRevision::of)
+				.switchIfEmpty(Mono.defer(() -> readRoutingHelper
+						.onReplica(customerId, customerRepository.findRevisionById(customerId))
+						.map(CustomerRevision::of)))
+				.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(customerId)));
+	}
+
+	@Override
+	public Mono<Customer> getCustomerByIdentification(String identification) {
+		if (!identificationFilterHelper.mightContain(identification)) {
+			return Mono.error(() -> new CustomerNotFoundException(identification));
+		}
+		return readRoutingHelper.onReplica(customerRepository.findByIdentification(identification))
+				.map(customerMapper::toDto)
+				.switchIfEmpty(Mono.error(() -> new CustomerNotFoundException(identification)));
+	}
+
+	@Override
+	public Mono<CustomerPage> getCustomerPage(Integer limit, String after) {
+		int pageSize = paginationProperties.resolveLimit(limit);
+		return Mono.fromCallable(() -> CursorUtil.decode(after))
+				.flatMap(afterId -> readRoutingHelper.onReplica(
+						customerRepository.findPageAfter(afterId, pageSize + 1).collectList()))
+				.map(entities -> toPage(entities, pageSize));
 	}
 
 	@Override
-	public Flux<Customer> getAllCustomers() {
-		return customerRepository.findAll().map(customerMapper::toDto);
+	public Flux<Customer> streamCustomers(Integer limit, String after) {
+		int fetchSize = paginationProperties.streamFetchSize();
+		Flux<Customer> customers = Mono.fromCallable(() -> CursorUtil.decode(after))
+				.flatMapMany(afterId -> readRoutingHelper.onReplica(customerRepository.streamAfter(afterId, fetchSize)))
+				.limitRate(fetchSize)
+				.map(customerMapper::toDto);
+		return limit == null ? customers : customers.take(Math.max(limit, 1));
+	}
+
+	@Override
+	public Mono<CustomerSearchPage> searchCustomers(CustomerSearchCriteria criteria, String fields,
+			Integer limit, String after) {
+		int pageSize = paginationProperties.resolveLimit(limit);
+		return Mono.fromCallable(() -> CursorUtil.decode(after))
+				.flatMap(afterId -> {
+					Set<CustomerField> selected = CustomerField.parse(fields);
+					return readRoutingHelper.onReplica(customerRepository
+							.search(criteria, CustomerField.columns(selected), afterId, pageSize + 1)
+							.collectList())
+							.map(entities -> toSearchPage(entities, selected, pageSize));
+				});
+	}
+
+	private CustomerPage toPage(List<CustomerEntity> entities, int pageSize) {
+		if (entities.size() <= pageSize) {
+			return new CustomerPage(customerMapper.toDtoList(entities), null);
+		}
+		List<CustomerEntity> page = entities.subList(0, pageSize);
+		String nextCursor = CursorUtil.encode(page.get(pageSize - 1).getCustomerId());
+		return new CustomerPage(customerMapper.toDtoList(page), nextCursor);
+	}
+
+	private CustomerSearchPage toSearchPage(List<CustomerEntity> entities, Set<CustomerField> fields,
+			int pageSize) {
+		List<CustomerEntity> page = entities.size() > pageSize ? entities.subList(0, pageSize) : entities;
+		String nextCursor = entities.size() > pageSize
+				? CursorUtil.encode(page.get(pageSize - 1).getCustomerId())
+				: null;
+		return new CustomerSearchPage(page.stream().map(entity -> project(entity, fields)).toList(),
+				nextCursor);
+	}
+
+	private Map<String, Object> project(CustomerEntity entity, Set<CustomerField> fields) {
+		Map<String, Object> projection = new LinkedHashMap<>(fields.size() * 2);
+		for (CustomerField field : fields) {
+			projection.put(field.property(), field.read(entity));
+		}
+		return projection;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,47 @@
+package com.pichincha.customerbp.service.impl;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.pichincha.customerbp.service.PasswordHashService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+public class PasswordHashServiceImpl implements PasswordHashService {
+
+	private static final String HASHING_TIMER = "customer.password.hashing";
+
+	private final PasswordEncoder passwordEncoder;
+	private final Scheduler hashingScheduler;
+	private final Timer hashTimer;
+
+	public PasswordHashServiceImpl(PasswordEncoder passwordEncoder,
+			@Qualifier("passwordHashingScheduler") Scheduler hashingScheduler,
+			MeterRegistry meterRegistry) {
+		this.passwordEncoder = passwordEncoder;
+		this.hashingScheduler = hashingScheduler;
+		this.hashTimer = meterRegistry.timer(HASHING_TIMER, "operation", "hash");
+	}
+
+	@Override
+	public Mono<String> hash(String rawPassword) {
+		return offload(() -> passwordEncoder.encode(rawPassword), hashTimer);
+	}
+
+	private <T> Mono<T> offload(Callable<T> task, Timer timer) {
+		return Mono.fromCallable(() -> timer.recordCallable(task))
+				.subscribeOn(hashingScheduler)
+				.onErrorMap(RejectedExecutionException.class, e -> new ResponseStatusException(
+						HttpStatus.SERVICE_UNAVAILABLE, "Password hashing capacity exceeded", e));
+	}
+}
@@ -1,5 +1,7 @@
 package com.pichincha.customerbp.service.mapper;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.util.List;
 
 import org.mapstruct.BeanMapping;
@@ -10,6 +12,7 @@ import org.mapstruct.NullValuePropertyMappingStrategy;
 
 import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
 import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.util.TimestampUtil;
 
 @Mapper(componentModel = "spring")
 public interface CustomerMapper {
@@ -17,11 +20,15 @@ public interface CustomerMapper {
 	@Mapping(source = "celular", target = "phone")
 	@Mapping(source = "active", target = "status")
 	@Mapping(target = "customerId", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true)
 	CustomerEntity toEntity(Customer dto);
 
 	@Mapping(source = "name", target = "fullName")
 	@Mapping(source = "phone", target = "celular")
 	@Mapping(source = "status", target = "active")
+	@Mapping(target = "password", ignore = true)
 	Customer toDto(CustomerEntity entity);
 
 	List<Customer> toDtoList(List<CustomerEntity> list);
@@ -31,5 +38,12 @@ public interface CustomerMapper {
 	@Mapping(source = "celular", target = "phone")
 	@Mapping(source = "active", target = "status")
 	@Mapping(target = "customerId", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "createdAt", ignore = true)
+	@Mapping(target = "updatedAt", ignore = true)
 	void updateEntityFromRequest(Customer dto, @MappingTarget CustomerEntity entity);
+
+	default OffsetDateTime toOffsetDateTime(LocalDateTime timestamp) {
+		return TimestampUtil.toOffsetDateTime(timestamp);
+	}
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.pichincha.customerbp.util;
+
+import java.util.Optional;
+
+import com.pichincha.customerbp.domain.ChannelHeaders;
+
+import reactor.util.context.ContextView;
+
+public final class ChannelHeaderUtil {
+
+	private static final int GUID_LENGTH = 36;
+
+	private ChannelHeaderUtil() {
+	}
+
+	public static boolean isDigits(String value, int maxLength) {
+		if (value == null || value.isEmpty() || value.length() > maxLength) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public static Optional<String> session(ContextView context) {
+		return context.<ChannelHeaders>getOrEmpty(ChannelHeaders.class)
+				.map(ChannelHeaders::session)
+				.filter(session -> !session.isBlank());
+	}
+
+	public static boolean isGuid(String value) {
+		if (value == null) {
+			return false;
+		}
+		int start = !value.isEmpty() && value.charAt(0) == '{' ? 1 : 0;
+		int end = value.length() > start && value.charAt(value.length() - 1) == '}' ? value.length() - 1
+				: value.length();
+		if (end - start != GUID_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < GUID_LENGTH; i++) {
+			char c = value.charAt(start + i);
+			boolean valid = i == 8 || i == 13 || i == 18 || i == 23 ? c == '-' : isHex(c);
+			if (!valid) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public static boolean isWithinLength(String value, int maxLength) {
+		return value != null && value.length() <= maxLength;
+	}
+
+	private static boolean isHex(char c) {
+		return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+	}
+}
@@ -0,0 +1,36 @@
+package com.pichincha.customerbp.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+public final class CursorUtil {
+
+	private static final String CURSOR_PREFIX = "cid:";
+	private static final long FIRST_PAGE = 0L;
+
+	private CursorUtil() {
+	}
+
+	public static String encode(Long customerId) {
+		byte[] raw = (CURSOR_PREFIX + customerId).getBytes(StandardCharsets.US_ASCII);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+	}
+
+	public static long decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST_PAGE;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+			if (!raw.startsWith(CURSOR_PREFIX)) {
+				throw new IllegalArgumentException(cursor);
+			}
+			return Long.parseLong(raw.substring(CURSOR_PREFIX.length()));
+		} catch (IllegalArgumentException e) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+		}
+	}
+}
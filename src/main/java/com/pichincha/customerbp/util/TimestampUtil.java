@@ -0,0 +1,20 @@
+package com.pichincha.customerbp.util;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+public final class TimestampUtil {
+
+	private TimestampUtil() {
+	}
+
+	public static LocalDateTime now() {
+		return LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.MILLIS);
+	}
+
+	public static OffsetDateTime toOffsetDateTime(LocalDateTime timestamp) {
+		return timestamp == null ? null : timestamp.atOffset(ZoneOffset.UTC);
+	}
+}
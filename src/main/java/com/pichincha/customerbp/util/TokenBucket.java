@@ -0,0 +1,37 @@
+package com.pichincha.customerbp.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TokenBucket {
+
+	private final long refillIntervalNanos;
+	private final long capacityNanos;
+	private final AtomicLong nextRefillAt;
+
+	public TokenBucket(double permitsPerSecond, int burst) {
+		if (permitsPerSecond <= 0 || burst < 1) {
+			throw new IllegalArgumentException("Token bucket needs a positive rate and burst");
+		}
+		this.refillIntervalNanos = Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond));
+		this.capacityNanos = refillIntervalNanos * burst;
+		this.nextRefillAt = new AtomicLong(System.nanoTime());
+	}
+
+	public boolean tryAcquire() {
+		return tryAcquire(System.nanoTime());
+	}
+
+	public boolean tryAcquire(long nowNanos) {
+		while (true) {
+			long current = nextRefillAt.get();
+			long next = Math.max(current, nowNanos) + refillIntervalNanos;
+			if (next - nowNanos > capacityNanos) {
+				return false;
+			}
+			if (nextRefillAt.compareAndSet(current, next)) {
+				return true;
+			}
+		}
+	}
+}
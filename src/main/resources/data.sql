@@ -1,6 +1,7 @@
 -- Sample data for Customer Microservice
 
+-- password holds BCrypt (cost 10) hashes of password123, password456 and password789
 INSERT INTO customer (password, status, name, gender, age, identification, address, phone, email) VALUES
-('password123', true, 'Juan Perez', 'Masculino', 30, '1234567890', 'Av. Principal 123', '0999123456', 'juan.perez@email.com'),
-('password456', true, 'Maria Rodriguez', 'Femenino', 25, '0987654321', 'Calle Secundaria 456', '0999654321', 'maria.rodriguez@email.com'),
-('password789', true, 'Carlos Mendoza', 'Masculino', 35, '1357924680', 'Calle Tercera 789', '0999789123', 'carlos.mendoza@email.com');
\ No newline at end of file
+('$2a$10$PpmeKmKT1aLLjcb8Y0EUgesTp8SAEG/Rs1TgS.4mtrZwINKctv32q', true, 'Juan Perez', 'Masculino', 30, '1234567890', 'Av. Principal 123', '0999123456', 'juan.perez@email.com'),
+('$2a$10$.BTtU.0VwQ1ldbd.2n/m4OnZEoJ/jPRN5ZclYFQ79yoiXEwTxqJc2', true, 'Maria Rodriguez', 'Femenino', 25, '0987654321', 'Calle Secundaria 456', '0999654321', 'maria.rodriguez@email.com'),
+('$2a$10$y/u3SCzeVZFob9KEP5WgxutPy7R4CSaiKS3eNzoS/rG9wFh4K2AFK', true, 'Carlos Mendoza', 'Masculino', 35, '1357924680', 'Calle Tercera 789', '0999789123', 'carlos.mendoza@email.com');
\ No newline at end of file
@@ -0,0 +1,42 @@
+-- Schema for Customer Microservice (PostgreSQL)
+
+CREATE TABLE IF NOT EXISTS customer (
+    customer_id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    password VARCHAR(255) NOT NULL,
+    status BOOLEAN NOT NULL DEFAULT TRUE,
+    name VARCHAR(255) NOT NULL,
+    gender VARCHAR(50) NOT NULL,
+    age INTEGER NOT NULL,
+    identification VARCHAR(10) UNIQUE NOT NULL,
+    address VARCHAR(500) NOT NULL,
+    phone VARCHAR(10),
+    email VARCHAR(255),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Indexes for better performance
+CREATE INDEX IF NOT EXISTS idx_customer_identification ON customer(identification);
+CREATE INDEX IF NOT EXISTS idx_customer_email ON customer(email);
+CREATE INDEX IF NOT EXISTS idx_customer_status_age ON customer(status, age);
+CREATE INDEX IF NOT EXISTS idx_customer_gender_age ON customer(gender, age);
+-- text_pattern_ops lets name LIKE 'prefix%' use the index under a non-C collation
+CREATE INDEX IF NOT EXISTS idx_customer_name ON customer(name text_pattern_ops);
+
+CREATE TABLE IF NOT EXISTS customer_outbox (
+    sequence_number BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    version BIGINT,
+    payload VARCHAR(4000),
+    occurred_at TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP DEFAULT clock_timestamp()::timestamp NOT NULL
+);
+
+-- clock_timestamp() is the insert time; LOCALTIMESTAMP would be the start of the writing transaction
+ALTER TABLE customer_outbox ADD COLUMN IF NOT EXISTS recorded_at TIMESTAMP DEFAULT clock_timestamp()::timestamp NOT NULL;
+ALTER TABLE customer_outbox ALTER COLUMN recorded_at SET DEFAULT clock_timestamp()::timestamp;
+
+CREATE INDEX IF NOT EXISTS idx_customer_outbox_customer ON customer_outbox(customer_id, sequence_number);
+CREATE INDEX IF NOT EXISTS idx_customer_outbox_occurred_at ON customer_outbox(occurred_at);
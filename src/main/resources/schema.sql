@@ -11,6 +11,7 @@ CREATE TABLE IF NOT EXISTS customer (
     address VARCHAR(500) NOT NULL,
     phone VARCHAR(10),
     email VARCHAR(255),
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -18,3 +19,20 @@ CREATE TABLE IF NOT EXISTS customer (
 -- Indexes for better performance
 CREATE INDEX IF NOT EXISTS idx_customer_identification ON customer(identification);
 CREATE INDEX IF NOT EXISTS idx_customer_email ON customer(email);
+CREATE INDEX IF NOT EXISTS idx_customer_status_age ON customer(status, age);
+CREATE INDEX IF NOT EXISTS idx_customer_gender_age ON customer(gender, age);
+CREATE INDEX IF NOT EXISTS idx_customer_name ON customer(name);
+
+-- H2 has no clock_timestamp(), so recorded_at is the start of the writing transaction here
+CREATE TABLE IF NOT EXISTS customer_outbox (
+    sequence_number BIGINT AUTO_INCREMENT PRIMARY KEY,
+    customer_id BIGINT NOT NULL,
+    event_type VARCHAR(10) NOT NULL,
+    version BIGINT,
+    payload VARCHAR(4000),
+    occurred_at TIMESTAMP NOT NULL,
+    recorded_at TIMESTAMP DEFAULT LOCALTIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_customer_outbox_customer ON customer_outbox(customer_id, sequence_number);
+CREATE INDEX IF NOT EXISTS idx_customer_outbox_occurred_at ON customer_outbox(occurred_at);
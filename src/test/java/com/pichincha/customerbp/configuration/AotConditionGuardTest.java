@@ -0,0 +1,33 @@
+package com.pichincha.customerbp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.env.MockEnvironment;
+
+class AotConditionGuardTest {
+
+  private final StaticApplicationContext applicationContext = new StaticApplicationContext();
+  private final MockEnvironment environment = new MockEnvironment();
+
+  @Test
+  void shouldAcceptPropertiesMatchingTheRegisteredConfiguration() {
+    applicationContext.registerSingleton("jdbcPersistenceConfig", JdbcPersistenceConfig.class);
+    environment.setProperty("customer.persistence.adapter", "jdbc");
+    environment.setProperty("customer.read-replica.enabled", "false");
+
+    assertThatCode(new AotConditionGuard(applicationContext, environment)::verify).doesNotThrowAnyException();
+  }
+
+  @Test
+  void shouldRejectPropertiesFrozenDifferentlyAtBuildTime() {
+    environment.setProperty("customer.read-replica.enabled", "true");
+
+    assertThatThrownBy(new AotConditionGuard(applicationContext, environment)::verify)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("customer.read-replica.enabled=true")
+        .hasMessageContaining("-PfastStartup");
+  }
+}
@@ -0,0 +1,30 @@
+package com.pichincha.customerbp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+
+class CustomerJsonConfigTest {
+
+  private final ObjectMapper objectMapper = objectMapper();
+
+  @Test
+  void shouldReadThePasswordButNeverWriteIt() throws Exception {
+    Customer customer = objectMapper.readValue("{\"fullName\":\"Ana\",\"password\":\"secret\"}", Customer.class);
+
+    assertThat(customer.getPassword()).isEqualTo("secret");
+    assertThat(objectMapper.writeValueAsString(customer))
+        .contains("\"fullName\":\"Ana\"")
+        .doesNotContain("password");
+  }
+
+  private static ObjectMapper objectMapper() {
+    Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+    new CustomerJsonConfig().customerJsonCustomizer().customize(builder);
+    return builder.build();
+  }
+}
@@ -0,0 +1,80 @@
+package com.pichincha.customerbp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+
+import com.pichincha.customerbp.configuration.AdmissionControlProperties.KeyLimit;
+import com.pichincha.customerbp.configuration.AdmissionControlProperties.Limit;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+
+class CustomerRequestObservationConventionTest {
+
+  private final CustomerRequestObservationConvention convention = new CustomerRequestObservationConvention(
+      new AdmissionControlProperties(true, new Limit(500, 1000),
+          List.of(new KeyLimit("01", "12345", 100, 200), new KeyLimit("02", null, 100, 200)), 10000, 512, 64,
+          Duration.ofSeconds(1)));
+
+  @Test
+  void shouldTagOperationChannelAndApp() throws NoSuchMethodException {
+    Map<String, Object> attributes = new HashMap<>();
+    attributes.put(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+        new HandlerMethod(this, getClass().getDeclaredMethod("getCustomerById")));
+    MockServerHttpRequest request = MockServerHttpRequest.get("/customers/1")
+        .header("x-channel", "01")
+        .header("x-app", "12345")
+        .build();
+
+    KeyValues keyValues = convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockServerHttpResponse(), attributes));
+
+    assertThat(keyValues).contains(KeyValue.of("operation", "getCustomerById"),
+        KeyValue.of("channel", "01"), KeyValue.of("app", "12345"));
+  }
+
+  @Test
+  void shouldCollapseMissingAndMalformedHeaders() {
+    MockServerHttpRequest request = MockServerHttpRequest.get("/customers")
+        .header("x-app", "not-a-number")
+        .build();
+
+    KeyValues keyValues = convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockServerHttpResponse(), new HashMap<>()));
+
+    assertThat(keyValues).contains(KeyValue.of("operation", "none"),
+        KeyValue.of("channel", "none"), KeyValue.of("app", "other"));
+  }
+
+  @Test
+  void shouldCollapseUnconfiguredChannelsAndApps() {
+    KeyValues unknownChannel = keyValues("99", "12345");
+    KeyValues unknownApp = keyValues("02", "54321");
+
+    assertThat(unknownChannel).contains(KeyValue.of("channel", "other"), KeyValue.of("app", "other"));
+    assertThat(unknownApp).contains(KeyValue.of("channel", "02"), KeyValue.of("app", "other"));
+  }
+
+  private KeyValues keyValues(String channel, String app) {
+    MockServerHttpRequest request = MockServerHttpRequest.get("/customers")
+        .header("x-channel", channel)
+        .header("x-app", app)
+        .build();
+    return convention.getLowCardinalityKeyValues(
+        new ServerRequestObservationContext(request, new MockServerHttpResponse(), new HashMap<>()));
+  }
+
+  void getCustomerById() {
+  }
+}
@@ -0,0 +1,104 @@
+package com.pichincha.customerbp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import com.pichincha.customerbp.domain.ChannelHeaders;
+import com.pichincha.customerbp.helper.ReadRoutingHelper;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class ReadReplicaRoutingConnectionFactoryTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final ConnectionPool primaryPool = pool("routing-primary");
+  private final ConnectionPool replicaPool = pool("routing-replica");
+  private final ReadReplicaRoutingConnectionFactory connectionFactory =
+      new ReadReplicaRoutingConnectionFactory(primaryPool, replicaPool, meterRegistry);
+  private final ReadRoutingHelper routingHelper = new ReadRoutingHelper(new ReadReplicaProperties(
+      true, null, null, null, null, Duration.ofSeconds(30), 100), meterRegistry,
+      new InMemoryCacheInvalidationRepository());
+  private DatabaseClient databaseClient;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory.afterPropertiesSet();
+    databaseClient = DatabaseClient.create(connectionFactory);
+    createDatabase(primaryPool, "primary");
+    createDatabase(replicaPool, "replica");
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionFactory.dispose();
+  }
+
+  @Test
+  void shouldRouteQueriesToReplicaAndEverythingElseToPrimary() {
+    StepVerifier.create(databaseName())
+        .expectNext("primary")
+        .verifyComplete();
+    StepVerifier.create(routingHelper.onReplica(databaseName()).contextWrite(session("reader")))
+        .expectNext("replica")
+        .verifyComplete();
+
+    assertThat(meterRegistry.get("customer.r2dbc.acquire").tag("name", "replica")
+        .tag("outcome", "SUCCESS").timer().count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("customer.read.routing").tag("role", "replica").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void shouldReadYourWritesFromPrimaryWithinTheWindow() {
+    routingHelper.recordWrite(7L).contextWrite(session("writer")).block();
+
+    StepVerifier.create(routingHelper.onReplica(databaseName()).contextWrite(session("writer")))
+        .expectNext("primary")
+        .verifyComplete();
+    StepVerifier.create(routingHelper.onReplica(7L, databaseName()).contextWrite(session("reader")))
+        .expectNext("primary")
+        .verifyComplete();
+    StepVerifier.create(routingHelper.onReplica(8L, databaseName()).contextWrite(session("reader")))
+        .expectNext("replica")
+        .verifyComplete();
+  }
+
+  private Mono<String> databaseName() {
+    return databaseClient.sql("SELECT name FROM routing_target")
+        .map(row -> row.get("name", String.class))
+        .one();
+  }
+
+  private static void createDatabase(ConnectionPool pool, String name) {
+    DatabaseClient client = DatabaseClient.create(pool);
+    client.sql("CREATE TABLE IF NOT EXISTS routing_target (name VARCHAR(16))").then()
+        .then(client.sql("DELETE FROM routing_target").then())
+        .then(client.sql("INSERT INTO routing_target VALUES ('" + name + "')").then())
+        .block();
+  }
+
+  private static Context session(String session) {
+    return Context.of(ChannelHeaders.class, new ChannelHeaders(null, "01", "02", "12345", session));
+  }
+
+  private static ConnectionPool pool(String database) {
+    return new ConnectionPool(ConnectionPoolConfiguration.builder(
+            ConnectionFactories.get("r2dbc:h2:mem:///" + database + ";DB_CLOSE_DELAY=-1"))
+        .maxSize(2)
+        .build());
+  }
+}
@@ -0,0 +1,134 @@
+package com.pichincha.customerbp.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.pichincha.customerbp.helper.JwkSetHelper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class SecurityConfigTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private RSAKey signingKey;
+  private ReactiveJwtDecoder jwtDecoder;
+
+  @BeforeEach
+  void setUp(@TempDir Path directory) throws Exception {
+    signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+    Path jwkSetFile = directory.resolve("jwks.json");
+    Files.writeString(jwkSetFile, new JWKSet(signingKey).toPublicJWKSet().toString());
+    JwtVerificationProperties jwtProperties = new JwtVerificationProperties(
+        jwkSetFile.toUri().toString(), Duration.ofMinutes(5), Duration.ofSeconds(30), List.of("RS256"),
+        "https://issuer.test", null, Duration.ZERO, 100, Duration.ofMinutes(15));
+    JwkSetHelper jwkSetHelper = new JwkSetHelper(jwtProperties, new DefaultResourceLoader());
+    jwtDecoder = new SecurityConfig().jwtDecoder(jwtProperties, jwkSetHelper, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    meterRegistry.close();
+  }
+
+  @Test
+  void shouldVerifyOnceAndServeRepeatedTokensFromCache() throws JOSEException {
+    String token = sign(signingKey, Instant.now().plusSeconds(300));
+
+    StepVerifier.create(jwtDecoder.decode(token))
+        .assertNext(jwt -> assertThat(jwt.getSubject()).isEqualTo("customer-user"))
+        .verifyComplete();
+    StepVerifier.create(jwtDecoder.decode(token))
+        .assertNext(jwt -> assertThat(jwt.getTokenValue()).isEqualTo(token))
+        .verifyComplete();
+    assertThat(meterRegistry.get("customer.jwt.verification").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "jwt").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectTokensSignedByUnknownKeysAndNotCacheFailures() throws JOSEException {
+    RSAKey foreignKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+    String token = sign(foreignKey, Instant.now().plusSeconds(300));
+
+    StepVerifier.create(jwtDecoder.decode(token)).expectError(JwtException.class).verify();
+    StepVerifier.create(jwtDecoder.decode(token)).expectError(JwtException.class).verify();
+    assertThat(meterRegistry.get("customer.jwt.verification").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldCoalesceConcurrentVerificationsAndDeferWorkUntilSubscription() {
+    JwtVerificationProperties jwtProperties = new JwtVerificationProperties("unused", Duration.ofMinutes(5),
+        Duration.ofSeconds(30), List.of("RS256"), null, null, Duration.ZERO, 100, Duration.ofMinutes(15));
+    ReactiveJwtDecoder delegate = mock(ReactiveJwtDecoder.class);
+    Sinks.One<Jwt> verified = Sinks.one();
+    when(delegate.decode(anyString())).thenReturn(verified.asMono());
+    CachingReactiveJwtDecoder cachingDecoder =
+        new CachingReactiveJwtDecoder(delegate, jwtProperties, meterRegistry);
+
+    Mono<Jwt> first = cachingDecoder.decode("token");
+    Mono<Jwt> second = cachingDecoder.decode("token");
+    verify(delegate, never()).decode(anyString());
+
+    Jwt jwt = Jwt.withTokenValue("token").header("alg", "RS256").subject("customer-user")
+        .expiresAt(Instant.now().plusSeconds(300)).build();
+    StepVerifier.create(Mono.zip(first, second))
+        .then(() -> verified.tryEmitValue(jwt))
+        .assertNext(both -> assertThat(both.getT1()).isSameAs(both.getT2()))
+        .verifyComplete();
+    StepVerifier.create(cachingDecoder.decode("token")).expectNext(jwt).verifyComplete();
+    verify(delegate, times(1)).decode("token");
+  }
+
+  @Test
+  void shouldRejectExpiredTokens() throws JOSEException {
+    String token = sign(signingKey, Instant.now().minusSeconds(5));
+
+    StepVerifier.create(jwtDecoder.decode(token)).expectError(JwtException.class).verify();
+  }
+
+  private static String sign(RSAKey key, Instant expiresAt) throws JOSEException {
+    JWTClaimsSet claims = new JWTClaimsSet.Builder()
+        .subject("customer-user")
+        .issuer("https://issuer.test")
+        .issueTime(Date.from(expiresAt.minusSeconds(600)))
+        .expirationTime(Date.from(expiresAt))
+        .build();
+    SignedJWT signedJwt = new SignedJWT(
+        new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+    signedJwt.sign(new RSASSASigner(key));
+    return signedJwt.serialize();
+  }
+}
@@ -0,0 +1,95 @@
+package com.pichincha.customerbp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.pichincha.customerbp.configuration.AdmissionControlProperties;
+import com.pichincha.customerbp.configuration.AdmissionControlProperties.KeyLimit;
+import com.pichincha.customerbp.configuration.AdmissionControlProperties.Limit;
+import com.pichincha.customerbp.domain.AdmissionDecision;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+
+class AdmissionControlHelperTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldThrottleEachKeyIndependently() {
+    AdmissionControlHelper admissionHelper = admissionHelper(100, () -> 0);
+
+    assertThat(admit(admissionHelper, "01", "11111", 3)).containsExactly(AdmissionDecision.ADMITTED,
+        AdmissionDecision.ADMITTED, AdmissionDecision.THROTTLED);
+    assertThat(admit(admissionHelper, "01", "22222", 5)).containsOnly(AdmissionDecision.ADMITTED);
+    assertThat(admit(admissionHelper, "02", "11111", 5)).containsOnly(AdmissionDecision.ADMITTED);
+    assertThat(count("01", "11111", "throttled")).isEqualTo(1);
+    assertThat(count("01", "other", "admitted")).isEqualTo(5);
+  }
+
+  @Test
+  void shouldShedWhenInFlightOrPendingAcquisitionsExceedThresholds() {
+    int[] pending = {0};
+    AdmissionControlHelper admissionHelper = admissionHelper(2, () -> pending[0]);
+
+    assertThat(admit(admissionHelper, "02", "33333", 3)).containsExactly(AdmissionDecision.ADMITTED,
+        AdmissionDecision.ADMITTED, AdmissionDecision.SHED);
+    admissionHelper.release();
+    assertThat(admissionHelper.tryAdmit("02", "33333")).isEqualTo(AdmissionDecision.ADMITTED);
+    admissionHelper.release();
+    pending[0] = 5;
+    assertThat(admissionHelper.tryAdmit("02", "33333")).isEqualTo(AdmissionDecision.SHED);
+    assertThat(count("other", "other", "shed")).isEqualTo(2);
+  }
+
+  @Test
+  void shouldTagOnlyConfiguredKeysAndFoldTheRestIntoOther() {
+    AdmissionControlHelper admissionHelper = admissionHelper(100, () -> 0);
+
+    IntStream.range(0, 50).forEach(i -> admissionHelper.tryAdmit("09", String.valueOf(10000 + i)));
+    admissionHelper.tryAdmit("01", "11111");
+
+    assertThat(meterRegistry.find("customer.admission").tag("outcome", "admitted").counters())
+        .extracting(counter -> counter.getId().getTag("channel") + ":" + counter.getId().getTag("app"))
+        .containsExactlyInAnyOrder("other:other", "01:11111");
+    assertThat(count("other", "other", "admitted")).isEqualTo(50);
+  }
+
+  private AdmissionControlHelper admissionHelper(int maxInFlight, IntSupplier pending) {
+    AdmissionControlProperties admissionProperties = new AdmissionControlProperties(true, new Limit(1000, 100),
+        List.of(new KeyLimit("01", "11111", 1, 2), new KeyLimit("01", null, 1000, 5)), 100, maxInFlight, 4,
+        Duration.ofSeconds(1));
+    PoolMetrics poolMetrics = mock(PoolMetrics.class);
+    when(poolMetrics.pendingAcquireSize()).thenAnswer(invocation -> pending.getAsInt());
+    ConnectionPool pool = mock(ConnectionPool.class);
+    when(pool.getMetrics()).thenReturn(Optional.of(poolMetrics));
+    @SuppressWarnings("unchecked")
+    ObjectProvider<ConnectionFactory> connectionFactory = mock(ObjectProvider.class);
+    when(connectionFactory.getIfAvailable()).thenReturn(pool);
+    return new AdmissionControlHelper(admissionProperties, meterRegistry, connectionFactory);
+  }
+
+  private List<AdmissionDecision> admit(AdmissionControlHelper admissionHelper, String channel, String app,
+      int requests) {
+    return IntStream.range(0, requests)
+        .mapToObj(i -> admissionHelper.tryAdmit(channel, app))
+        .toList();
+  }
+
+  private double count(String channel, String app, String outcome) {
+    return meterRegistry.get("customer.admission").tag("channel", channel).tag("app", app)
+        .tag("outcome", outcome).counter().count();
+  }
+}
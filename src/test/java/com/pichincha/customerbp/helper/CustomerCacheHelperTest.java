@@ -0,0 +1,97 @@
+package com.pichincha.customerbp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.Customer;
+import com.pichincha.customerbp.configuration.CustomerCacheProperties;
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CustomerCacheHelperTest {
+
+  private final InMemoryCacheInvalidationRepository invalidationRepository =
+      new InMemoryCacheInvalidationRepository();
+
+  @Test
+  void shouldLoadOnceAndServeHitsFromCache() {
+    CustomerCacheHelper cacheHelper = newHelper(true);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      StepVerifier.create(cacheHelper.getOrLoad(1L, id -> countingLoader(loads, id)))
+          .expectNextMatches(customer -> customer.getCustomerId() == 1)
+          .verifyComplete();
+    }
+
+    assertThat(loads).hasValue(1);
+  }
+
+  @Test
+  void shouldInvalidateOtherInstancesOnEvict() {
+    CustomerCacheHelper writer = newHelper(true);
+    CustomerCacheHelper reader = newHelper(true);
+    AtomicInteger loads = new AtomicInteger();
+    reader.getOrLoad(7L, id -> countingLoader(loads, id)).block();
+
+    writer.evict(7L).block();
+    reader.getOrLoad(7L, id -> countingLoader(loads, id)).block();
+
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void shouldAnnounceRefreshOnceWithIdentificationAndKeepLocalEntry() {
+    CustomerCacheHelper writer = newHelper(true);
+    List<CacheInvalidationEvent> events = new ArrayList<>();
+    invalidationRepository.invalidations().subscribe(events::add);
+    AtomicInteger loads = new AtomicInteger();
+
+    writer.refresh(new Customer().customerId(5).identification("1234567890")).block();
+    writer.getOrLoad(5L, id -> countingLoader(loads, id)).block();
+
+    assertThat(events).extracting(CacheInvalidationEvent::customerId, CacheInvalidationEvent::identification)
+        .containsExactly(tuple(5L, "1234567890"));
+    assertThat(loads).hasValue(0);
+  }
+
+  @Test
+  void shouldBypassCacheWhenDisabled() {
+    CustomerCacheHelper cacheHelper = newHelper(false);
+    AtomicInteger loads = new AtomicInteger();
+
+    cacheHelper.getOrLoad(3L, id -> countingLoader(loads, id)).block();
+    cacheHelper.getOrLoad(3L, id -> countingLoader(loads, id)).block();
+
+    assertThat(loads).hasValue(2);
+  }
+
+  private CustomerCacheHelper newHelper(boolean enabled) {
+    AsyncCache<Long, Customer> cache = Caffeine.newBuilder().maximumSize(10).buildAsync();
+    CustomerCacheProperties properties =
+        new CustomerCacheProperties(enabled, 10, Duration.ofMinutes(1), null);
+    CustomerCacheHelper cacheHelper =
+        new CustomerCacheHelper(cache, invalidationRepository, properties);
+    cacheHelper.subscribeToInvalidations();
+    return cacheHelper;
+  }
+
+  private Mono<Customer> countingLoader(AtomicInteger loads, Long customerId) {
+    return Mono.fromSupplier(() -> {
+      loads.incrementAndGet();
+      return new Customer().customerId(customerId.intValue());
+    });
+  }
+}
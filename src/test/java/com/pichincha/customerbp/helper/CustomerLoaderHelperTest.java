@@ -0,0 +1,105 @@
+package com.pichincha.customerbp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pichincha.customerbp.configuration.CustomerLoaderProperties;
+import com.pichincha.customerbp.configuration.ReadReplicaProperties;
+import com.pichincha.customerbp.domain.ConnectionRole;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CustomerLoaderHelperTest {
+
+  private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CustomerLoaderHelper loaderHelper = new CustomerLoaderHelper(customerRepository,
+      new ReadRoutingHelper(new ReadReplicaProperties(false, null, null, null, null,
+          Duration.ofSeconds(2), 100), meterRegistry, new InMemoryCacheInvalidationRepository()),
+      new CustomerLoaderProperties(true, 3, Duration.ofMillis(50), 2), meterRegistry);
+
+  @BeforeEach
+  void setUp() {
+    loaderHelper.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    loaderHelper.stop();
+  }
+
+  @Test
+  void shouldCoalesceConcurrentLoadsOfTheSameId() {
+    when(customerRepository.findByCustomerIds(anyCollection()))
+        .thenReturn(Flux.just(customer(1L)).delayElements(Duration.ofMillis(20)));
+
+    StepVerifier.create(Flux.merge(load(1L), load(1L), load(1L)))
+        .expectNextCount(3)
+        .verifyComplete();
+
+    verify(customerRepository).findByCustomerIds(List.of(1L));
+    assertThat(meterRegistry.get("customer.loader.coalesced").counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldResolveDistinctIdsWithOneQueryPerBatch() {
+    when(customerRepository.findByCustomerIds(anyCollection()))
+        .thenReturn(Flux.just(customer(1L), customer(2L)), Flux.just(customer(4L)));
+
+    StepVerifier.create(Flux.merge(load(1L), load(2L), load(3L), load(4L))
+            .map(CustomerEntity::getCustomerId)
+            .collectList())
+        .assertNext(customerIds -> assertThat(customerIds).containsExactlyInAnyOrder(1L, 2L, 4L))
+        .verifyComplete();
+
+    verify(customerRepository, times(2)).findByCustomerIds(anyCollection());
+    verify(customerRepository).findByCustomerIds(List.of(1L, 2L, 3L));
+    assertThat(meterRegistry.get("customer.loader.batch.size").summary().totalAmount())
+        .isEqualTo(4);
+    assertThat(meterRegistry.get("customer.loader.batch.wait").timer().count()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldFailEveryWaiterOfAFailedBatch() {
+    when(customerRepository.findByCustomerIds(anyCollection()))
+        .thenReturn(Flux.error(new IllegalStateException("database unavailable")));
+
+    StepVerifier.create(Flux.mergeDelayError(2, load(1L), load(2L)))
+        .expectErrorSatisfies(error -> assertThat(Exceptions.unwrapMultiple(error))
+            .hasSize(2)
+            .allSatisfy(cause -> assertThat(cause).hasMessage("database unavailable")))
+        .verify();
+    when(customerRepository.findByCustomerIds(anyCollection())).thenReturn(Flux.just(customer(1L)));
+    StepVerifier.create(load(1L))
+        .expectNextCount(1)
+        .verifyComplete();
+  }
+
+  private Mono<CustomerEntity> load(Long customerId) {
+    return loaderHelper.load(customerId, ConnectionRole.PRIMARY);
+  }
+
+  private static CustomerEntity customer(Long customerId) {
+    CustomerEntity entity = new CustomerEntity();
+    entity.setCustomerId(customerId);
+    return entity;
+  }
+}
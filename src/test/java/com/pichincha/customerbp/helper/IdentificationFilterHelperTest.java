@@ -0,0 +1,79 @@
+package com.pichincha.customerbp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.pichincha.customerbp.configuration.CustomerCacheProperties;
+import com.pichincha.customerbp.configuration.CustomerCacheProperties.Channel;
+import com.pichincha.customerbp.configuration.IdentificationFilterProperties;
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+
+import reactor.core.publisher.Flux;
+
+class IdentificationFilterHelperTest {
+
+  private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+  private final InMemoryCacheInvalidationRepository invalidationRepository =
+      new InMemoryCacheInvalidationRepository();
+  private final IdentificationFilterHelper filterHelper = newFilter(Channel.KAFKA);
+
+  @Test
+  void shouldAnswerMaybeUntilRebuildCompletes() {
+    assertThat(filterHelper.mightContain("0000000001")).isTrue();
+  }
+
+  @Test
+  void shouldContainLoadedAndRegisteredIdentifications() {
+    when(customerRepository.findAllIdentifications())
+        .thenReturn(Flux.just("1234567890", "0987654321"));
+
+    filterHelper.rebuild();
+    filterHelper.register("1357924680");
+    invalidationRepository.publish(new CacheInvalidationEvent("other-pod", 10L, "2468013579", null)).block();
+
+    assertThat(filterHelper.mightContain("1234567890")).isTrue();
+    assertThat(filterHelper.mightContain("0987654321")).isTrue();
+    assertThat(filterHelper.mightContain("1357924680")).isTrue();
+    assertThat(filterHelper.mightContain("2468013579")).isTrue();
+  }
+
+  @Test
+  void shouldNotRejectWhenInvalidationsStayOnThisInstance() {
+    IdentificationFilterHelper localFilter = newFilter(Channel.MEMORY);
+    when(customerRepository.findAllIdentifications()).thenReturn(Flux.just("1234567890"));
+
+    localFilter.rebuild();
+
+    assertThat(localFilter.mightContain("0000000001")).isTrue();
+  }
+
+  @Test
+  void shouldRejectMostUnknownIdentifications() {
+    when(customerRepository.findAllIdentifications()).thenReturn(Flux.range(0, 5_000)
+        .map(value -> String.format("%010d", value)));
+
+    filterHelper.rebuild();
+    long falsePositives = IntStream.range(1_000_000, 1_010_000)
+        .mapToObj(value -> String.format("%010d", value))
+        .filter(filterHelper::mightContain)
+        .count();
+
+    assertThat(falsePositives).isLessThan(300);
+  }
+
+  private IdentificationFilterHelper newFilter(Channel channel) {
+    return new IdentificationFilterHelper(customerRepository, invalidationRepository,
+        new IdentificationFilterProperties(true, 10_000, 0.01),
+        new CustomerCacheProperties(false, 10, Duration.ofMinutes(1),
+            new CustomerCacheProperties.Invalidation(channel, "invalidations", "test-",
+                Duration.ofSeconds(1))));
+  }
+}
@@ -0,0 +1,49 @@
+package com.pichincha.customerbp.helper;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.pichincha.customerbp.configuration.ReadReplicaProperties;
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+import com.pichincha.customerbp.domain.ChannelHeaders;
+import com.pichincha.customerbp.domain.ConnectionRole;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+class ReadRoutingHelperTest {
+
+  private final InMemoryCacheInvalidationRepository invalidationRepository =
+      new InMemoryCacheInvalidationRepository();
+  private final ReadRoutingHelper routingHelper = new ReadRoutingHelper(new ReadReplicaProperties(
+      true, null, null, null, null, Duration.ofSeconds(30), 100), new SimpleMeterRegistry(),
+      invalidationRepository);
+
+  @BeforeEach
+  void setUp() {
+    routingHelper.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    routingHelper.stop();
+  }
+
+  @Test
+  void shouldRouteToPrimaryAfterAWriteAnnouncedByAnotherPod() {
+    invalidationRepository.publish(new CacheInvalidationEvent("other-pod", 7L, null, "session-1")).block();
+
+    StepVerifier.create(routingHelper.resolveRole(7L)).expectNext(ConnectionRole.PRIMARY).verifyComplete();
+    StepVerifier.create(routingHelper.resolveRole(8L)
+        .contextWrite(Context.of(ChannelHeaders.class,
+            new ChannelHeaders("guid", "01", "01", "12345", "session-1"))))
+        .expectNext(ConnectionRole.PRIMARY)
+        .verifyComplete();
+    StepVerifier.create(routingHelper.resolveRole(8L)).expectNext(ConnectionRole.REPLICA).verifyComplete();
+  }
+}
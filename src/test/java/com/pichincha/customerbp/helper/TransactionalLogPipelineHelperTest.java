@@ -0,0 +1,86 @@
+package com.pichincha.customerbp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.pichincha.customerbp.configuration.TransactionalLogProperties;
+import com.pichincha.customerbp.configuration.TransactionalLogProperties.OverflowPolicy;
+import com.pichincha.customerbp.configuration.TransactionalLogProperties.Sink;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+import com.pichincha.customerbp.repository.InMemoryTransactionalLogRepository;
+import com.pichincha.customerbp.repository.TransactionalLogRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class TransactionalLogPipelineHelperTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private TransactionalLogPipelineHelper pipelineHelper;
+
+  @AfterEach
+  void tearDown() {
+    pipelineHelper.flush();
+  }
+
+  @Test
+  void shouldPublishInBatchesOnceBatchSizeIsReached() throws InterruptedException {
+    InMemoryTransactionalLogRepository logRepository = new InMemoryTransactionalLogRepository();
+    pipelineHelper = pipelineHelper(logRepository, 64, OverflowPolicy.DROP_NEWEST);
+
+    for (int i = 0; i < 20; i++) {
+      pipelineHelper.offer(logRecord(i));
+    }
+    awaitCount("published", 20);
+
+    assertThat(logRepository.batches()).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(10));
+    assertThat(logRepository.batches().stream().mapToInt(List::size).sum()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldDropInsteadOfBlockingWhenSinkIsSlow() {
+    TransactionalLogRepository slowRepository = batch -> Mono.<Void>empty().delaySubscription(Duration.ofSeconds(1));
+    pipelineHelper = pipelineHelper(slowRepository, 16, OverflowPolicy.DROP_OLDEST);
+
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < 1_000; i++) {
+      pipelineHelper.offer(logRecord(i));
+    }
+
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+    assertThat(count("dropped") + count("sampled_out")).isPositive();
+    assertThat(meterRegistry.get("customer.transactional.log.buffer").gauge().value()).isLessThanOrEqualTo(16);
+  }
+
+  private TransactionalLogPipelineHelper pipelineHelper(TransactionalLogRepository logRepository, int capacity,
+      OverflowPolicy overflowPolicy) {
+    TransactionalLogProperties logProperties = new TransactionalLogProperties(true, capacity, 10,
+        Duration.ofMinutes(1), Duration.ofSeconds(5), overflowPolicy, 1.0, 1.0, Sink.MEMORY,
+        Path.of("unused.ndjson"), "");
+    return new TransactionalLogPipelineHelper(logRepository, logProperties, meterRegistry);
+  }
+
+  private TransactionalLogRecord logRecord(int sequence) {
+    return new TransactionalLogRecord(Instant.now(), "550e8400-e29b-41d4-a716-446655440000", "01", "02",
+        "12345", "s" + sequence, "GET", "/customers/" + sequence, "getCustomerById", 200, 1);
+  }
+
+  private double count(String outcome) {
+    return meterRegistry.get("customer.transactional.log.records").tag("outcome", outcome).counter().count();
+  }
+
+  private void awaitCount(String outcome, double expected) throws InterruptedException {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (count(outcome) < expected && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(count(outcome)).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,75 @@
+package com.pichincha.customerbp.infrastructure.input.adapter.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.WebFilterChain;
+
+import com.pichincha.customerbp.domain.ChannelHeaders;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ChannelHeaderWebFilterTest {
+
+  private final ChannelHeaderWebFilter filter = new ChannelHeaderWebFilter();
+
+  @Test
+  void shouldExposeValidatedHeadersToAttributesAndContext() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        customersRequest("{550e8400-e29b-41d4-a716-446655440000}", "01", "12345"));
+    AtomicReference<ChannelHeaders> fromContext = new AtomicReference<>();
+    WebFilterChain chain = filtered -> Mono.deferContextual(context -> {
+      fromContext.set(context.get(ChannelHeaders.class));
+      return Mono.empty();
+    });
+
+    StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+    ChannelHeaders headers = exchange.getAttribute(ChannelHeaderWebFilter.CHANNEL_HEADERS_ATTRIBUTE);
+    assertThat(headers).isEqualTo(fromContext.get());
+    assertThat(headers.app()).isEqualTo("12345");
+  }
+
+  @Test
+  void shouldRejectMalformedHeadersWithBadRequest() {
+    assertRejected(customersRequest("550e8400-e29b-41d4-a716-44665544000g", "01", "12345"));
+    assertRejected(customersRequest("550e8400-e29b-41d4-a716-446655440000", "123", "12345"));
+    assertRejected(customersRequest("550e8400-e29b-41d4-a716-446655440000", "01", "12a45"));
+    assertRejected(MockServerHttpRequest.get("/customers/1"));
+  }
+
+  @Test
+  void shouldIgnoreRequestsOutsideCustomersApi() {
+    MockServerWebExchange exchange = MockServerWebExchange.from(
+        MockServerHttpRequest.get("/customers-report"));
+
+    StepVerifier.create(filter.filter(exchange, filtered -> Mono.empty())).verifyComplete();
+
+    assertThat(exchange.getAttributes()).doesNotContainKey(
+        ChannelHeaderWebFilter.CHANNEL_HEADERS_ATTRIBUTE);
+  }
+
+  private MockServerHttpRequest.BaseBuilder<?> customersRequest(String guid, String channel,
+      String app) {
+    return MockServerHttpRequest.get("/customers/1")
+        .header("x-guid", guid)
+        .header("x-channel", channel)
+        .header("x-medium", "02")
+        .header("x-app", app)
+        .header("x-session", "session");
+  }
+
+  private void assertRejected(MockServerHttpRequest.BaseBuilder<?> request) {
+    StepVerifier.create(filter.filter(MockServerWebExchange.from(request), filtered -> Mono.empty()))
+        .expectErrorSatisfies(error -> assertThat(((ResponseStatusException) error).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST))
+        .verify();
+  }
+}
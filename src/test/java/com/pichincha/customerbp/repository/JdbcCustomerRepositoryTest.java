@@ -0,0 +1,179 @@
+package com.pichincha.customerbp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerField;
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class JdbcCustomerRepositoryTest {
+
+  private final DriverManagerDataSource dataSource =
+      new DriverManagerDataSource("jdbc:h2:mem:jdbc-repository;DB_CLOSE_DELAY=-1", "sa", "");
+  private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+  private final Scheduler scheduler =
+      Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "test-jdbc");
+  private final JdbcCustomerRepository repository = new JdbcCustomerRepository(jdbcTemplate, scheduler);
+  private final JdbcCustomerOutboxRepository outboxRepository = new JdbcCustomerOutboxRepository(
+      mock(CustomerOutboxRepository.class), jdbcTemplate, scheduler);
+  private final JdbcTransactionalOperator transactionalOperator =
+      new JdbcTransactionalOperator(new DataSourceTransactionManager(dataSource), scheduler);
+
+  @BeforeEach
+  void setUp() {
+    new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(dataSource);
+    jdbcTemplate.update("DELETE FROM customer");
+    jdbcTemplate.update("DELETE FROM customer_outbox");
+    insert(1L, "Juan", "1000000001", true);
+    insert(2L, "Ju%lia", "1000000002", true);
+    insert(3L, "Julio", "1000000003", false);
+    jdbcTemplate.update("ALTER TABLE customer ALTER COLUMN customer_id RESTART WITH 100");
+  }
+
+  @AfterEach
+  void tearDown() {
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldReadOnVirtualThreads() {
+    StepVerifier.create(repository.findById(1L)
+            .map(customer -> customer.getName() + ":" + Thread.currentThread().isVirtual()))
+        .expectNext("Juan:true")
+        .verifyComplete();
+    StepVerifier.create(repository.findById(9L)).verifyComplete();
+    StepVerifier.create(repository.findByCustomerIds(List.of(1L, 3L, 9L)).map(CustomerEntity::getName))
+        .expectNextCount(2)
+        .verifyComplete();
+    StepVerifier.create(repository.existsByIdentification("1000000002"))
+        .expectNext(true)
+        .verifyComplete();
+    StepVerifier.create(repository.streamAfter(1L, 1).map(CustomerEntity::getCustomerId))
+        .expectNext(2L, 3L)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldProjectSearchColumnsAndEscapeNamePrefix() {
+    CustomerSearchCriteria criteria = new CustomerSearchCriteria(true, null, null, null, "Ju%", null);
+
+    StepVerifier.create(repository.search(criteria,
+            CustomerField.columns(CustomerField.parse("fullName")), 0L, 10))
+        .assertNext(customer -> {
+          assertThat(customer.getCustomerId()).isEqualTo(2L);
+          assertThat(customer.getName()).isEqualTo("Ju%lia");
+          assertThat(customer.getIdentification()).isNull();
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldWriteOverJdbc() {
+    CustomerEntity created = repository.save(customer("Maria", "1000000004")).block();
+
+    assertThat(created.getCustomerId()).isNotNull();
+    assertThat(created.getVersion()).isZero();
+    created.setName("Maria Jose");
+    StepVerifier.create(repository.updateReturning(created))
+        .assertNext(updated -> {
+          assertThat(updated.getName()).isEqualTo("Maria Jose");
+          assertThat(updated.getVersion()).isEqualTo(1L);
+        })
+        .verifyComplete();
+    StepVerifier.create(repository.updateReturning(created)).verifyComplete();
+    StepVerifier.create(repository.save(created))
+        .expectError(OptimisticLockingFailureException.class)
+        .verify();
+    StepVerifier.create(repository.insertBatch(
+            List.of(customer("Pedro", "1000000005"), customer("Paula", "1000000006"))))
+        .expectNextCount(2)
+        .verifyComplete();
+    StepVerifier.create(repository.deleteByCustomerId(created.getCustomerId()))
+        .expectNext(1)
+        .verifyComplete();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer", Integer.class)).isEqualTo(5);
+  }
+
+  @Test
+  void shouldWriteCustomerAndOutboxInOneTransaction() {
+    Mono<CustomerOutboxEntity> write = Mono.defer(() -> repository.save(customer("Maria", "1000000004")))
+        .flatMap(customer -> outboxRepository.save(new CustomerOutboxEntity(null, customer.getCustomerId(),
+            "CREATED", customer.getVersion(), null, LocalDateTime.now(), null)));
+
+    StepVerifier.create(write.then(Mono.error(new IllegalStateException("rollback")))
+            .as(transactionalOperator::transactional))
+        .expectError(IllegalStateException.class)
+        .verify();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_outbox", Integer.class)).isZero();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer", Integer.class)).isEqualTo(3);
+
+    StepVerifier.create(write.as(transactionalOperator::transactional))
+        .assertNext(event -> assertThat(event.getSequenceNumber()).isNotNull())
+        .verifyComplete();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_outbox", Integer.class)).isOne();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer", Integer.class)).isEqualTo(4);
+  }
+
+  @Test
+  void shouldJoinTheOuterTransactionWhenNested() {
+    StepVerifier.create(nestedWrite("1000000004").as(transactionalOperator::transactional))
+        .expectNext(false)
+        .verifyComplete();
+    StepVerifier.create(nestedWrite("1000000005").then(Mono.error(new IllegalStateException("rollback")))
+            .as(transactionalOperator::transactional))
+        .expectError(IllegalStateException.class)
+        .verify();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer_outbox", Integer.class)).isOne();
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM customer", Integer.class)).isEqualTo(4);
+  }
+
+  private Mono<Boolean> nestedWrite(String identification) {
+    return repository.save(customer("Maria", identification))
+        .flatMap(customer -> transactionalOperator.execute(transaction -> outboxRepository
+                .save(new CustomerOutboxEntity(null, customer.getCustomerId(), "CREATED", customer.getVersion(),
+                    null, LocalDateTime.now(), null))
+                .thenReturn(transaction.isNewTransaction()))
+            .single());
+  }
+
+  private CustomerEntity customer(String name, String identification) {
+    CustomerEntity customer = new CustomerEntity();
+    customer.setName(name);
+    customer.setGender("F");
+    customer.setAge(30);
+    customer.setIdentification(identification);
+    customer.setAddress("Quito");
+    customer.setPassword("secret");
+    customer.setStatus(true);
+    customer.setCreatedAt(LocalDateTime.now());
+    customer.setUpdatedAt(LocalDateTime.now());
+    return customer;
+  }
+
+  private void insert(Long customerId, String name, String identification, boolean active) {
+    jdbcTemplate.update("INSERT INTO customer (customer_id, password, status, name, gender, age, "
+            + "identification, address) VALUES (?, 'secret', ?, ?, 'F', 30, ?, 'Quito')",
+        customerId, active, name, identification);
+  }
+}
@@ -0,0 +1,83 @@
+package com.pichincha.customerbp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.customerbp.domain.CacheInvalidationEvent;
+
+import reactor.test.StepVerifier;
+
+class KafkaCacheInvalidationRepositoryTest {
+
+  private static final String TOPIC = "cache-invalidation";
+
+  @SuppressWarnings("unchecked")
+  private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+  private final KafkaCacheInvalidationRepository invalidationRepository =
+      new KafkaCacheInvalidationRepository(kafkaTemplate, new ObjectMapper(), TOPIC,
+          Duration.ofMillis(200));
+
+  @Test
+  void shouldPublishKeyedByCustomerAndReplayConsumedEvents() {
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    when(kafkaTemplate.send(eq(TOPIC), eq("7"), payload.capture()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    CacheInvalidationEvent event = new CacheInvalidationEvent("pod-a", 7L, "1234567890", "session-1");
+
+    invalidationRepository.publish(event).block();
+
+    StepVerifier.create(invalidationRepository.invalidations().take(1))
+        .then(() -> invalidationRepository.onMessage(new ConsumerRecord<>(TOPIC, 0, 0L, "7",
+            payload.getValue())))
+        .expectNext(event)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldNotFailTheWriteWhenTheBrokerIsUnavailable() {
+    when(kafkaTemplate.send(eq(TOPIC), anyString(), anyString())).thenReturn(new CompletableFuture<>());
+
+    StepVerifier.create(invalidationRepository.publish(new CacheInvalidationEvent("pod-a", 7L, null, null)))
+        .verifyComplete();
+    verify(kafkaTemplate).send(eq(TOPIC), eq("7"), anyString());
+  }
+
+  @Test
+  void shouldBecomeReadyOncePartitionsArePositioned() {
+    Consumer<?, ?> consumer = mock(Consumer.class);
+    TopicPartition partition = new TopicPartition(TOPIC, 0);
+
+    invalidationRepository.onPartitionsAssigned(consumer, List.of(partition));
+
+    StepVerifier.create(invalidationRepository.ready()).verifyComplete();
+    verify(consumer).position(partition);
+  }
+
+  @Test
+  void shouldSkipMalformedRecords() {
+    StepVerifier.create(invalidationRepository.invalidations().take(1))
+        .then(() -> {
+          invalidationRepository.onMessage(new ConsumerRecord<>(TOPIC, 0, 0L, "1", "{"));
+          invalidationRepository.onMessage(new ConsumerRecord<>(TOPIC, 0, 1L, "2",
+              "{\"sourceInstance\":\"pod-b\",\"customerId\":2}"));
+        })
+        .assertNext(event -> assertThat(event.customerId()).isEqualTo(2L))
+        .verifyComplete();
+  }
+}
@@ -0,0 +1,53 @@
+package com.pichincha.customerbp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pichincha.customerbp.domain.TransactionalLogRecord;
+
+import reactor.test.StepVerifier;
+
+class KafkaTransactionalLogRepositoryTest {
+
+  private static final String TOPIC = "transactional-log";
+
+  @SuppressWarnings("unchecked")
+  private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+  private final KafkaTransactionalLogRepository logRepository = new KafkaTransactionalLogRepository(
+      kafkaTemplate, new ObjectMapper().registerModule(new JavaTimeModule()), TOPIC);
+
+  @Test
+  void shouldPublishEachRecordKeyedByGuidAndCompleteOnceAllAreAcknowledged() {
+    ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+    CompletableFuture<Void> secondAck = new CompletableFuture<>();
+    when(kafkaTemplate.send(eq(TOPIC), eq("guid-1"), payload.capture()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+    when(kafkaTemplate.send(eq(TOPIC), eq("guid-2"), anyString())).thenAnswer(invocation -> secondAck);
+
+    StepVerifier.create(logRepository.publish(List.of(logRecord("guid-1"), logRecord("guid-2"))))
+        .expectSubscription()
+        .expectNoEvent(Duration.ofMillis(100))
+        .then(() -> secondAck.complete(null))
+        .verifyComplete();
+    assertThat(payload.getValue()).contains("\"guid\":\"guid-1\"", "\"status\":200");
+  }
+
+  private TransactionalLogRecord logRecord(String guid) {
+    return new TransactionalLogRecord(Instant.parse("2025-01-15T10:20:30Z"), guid, "01", "01", "app01",
+        "session", "GET", "/customers/1", "getCustomer", 200, 3);
+  }
+}
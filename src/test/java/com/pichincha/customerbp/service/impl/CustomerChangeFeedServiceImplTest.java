@@ -0,0 +1,100 @@
+package com.pichincha.customerbp.service.impl;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerChange;
+import com.pichincha.customerbp.configuration.CustomerChangeFeedProperties;
+import com.pichincha.customerbp.domain.CustomerOutboxEntity;
+import com.pichincha.customerbp.helper.CustomerOutboxHelper;
+import com.pichincha.customerbp.repository.CustomerOutboxRepository;
+import com.pichincha.customerbp.service.mapper.CustomerMapperImpl;
+import com.pichincha.customerbp.util.TimestampUtil;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CustomerChangeFeedServiceImplTest {
+
+  private final CustomerOutboxRepository outboxRepository = mock(CustomerOutboxRepository.class);
+  private final CustomerChangeFeedServiceImpl changeFeedService = new CustomerChangeFeedServiceImpl(
+      outboxRepository, new CustomerOutboxHelper(outboxRepository, new CustomerMapperImpl(), new ObjectMapper()),
+      new CustomerChangeFeedProperties(2, Duration.ofMillis(10), Duration.ofSeconds(5), Duration.ofDays(7),
+          Duration.ofHours(1), Duration.ofMinutes(10)));
+
+  @Test
+  void shouldPageThroughBacklogAndCompleteWhenNotFollowing() {
+    LocalDateTime old = TimestampUtil.now().minusMinutes(1);
+    when(outboxRepository.currentTimestamp()).thenReturn(Mono.just(TimestampUtil.now()));
+    when(outboxRepository.findAfter(eq(0L), anyInt())).thenReturn(Flux.just(event(1, old), event(2, old)));
+    when(outboxRepository.findAfter(eq(2L), anyInt())).thenReturn(Flux.just(event(7, old)));
+
+    StepVerifier.create(changeFeedService.streamChanges(null, null, false).map(CustomerChange::getSequence))
+        .expectNext(1L, 2L, 7L)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldNotSkipPastRecentGapThatMayStillCommit() {
+    LocalDateTime now = TimestampUtil.now();
+    when(outboxRepository.currentTimestamp()).thenReturn(Mono.just(now));
+    when(outboxRepository.findAfter(eq(4L), anyInt())).thenReturn(Flux.just(event(5, now), event(7, now)));
+
+    StepVerifier.create(changeFeedService.streamChanges(4L, null, false).map(CustomerChange::getSequence))
+        .expectNext(5L)
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldTimeGapsFromInsertNotFromWriterTimestamp() {
+    LocalDateTime now = TimestampUtil.now();
+    CustomerOutboxEntity staleStamp = event(7, now.minusMinutes(1), now);
+    when(outboxRepository.currentTimestamp()).thenReturn(Mono.just(now));
+    when(outboxRepository.findAfter(eq(5L), anyInt())).thenReturn(Flux.just(staleStamp));
+
+    StepVerifier.create(changeFeedService.streamChanges(5L, null, false))
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldNotQueryTheDatabaseClockForContiguousPages() {
+    LocalDateTime now = TimestampUtil.now();
+    when(outboxRepository.findAfter(eq(0L), anyInt())).thenReturn(Flux.just(event(1, now)));
+
+    StepVerifier.create(changeFeedService.streamChanges(0L, null, false).map(CustomerChange::getSequence))
+        .expectNext(1L)
+        .verifyComplete();
+    verify(outboxRepository, never()).currentTimestamp();
+  }
+
+  @Test
+  void shouldWaitForNewEventsWhenFollowing() {
+    LocalDateTime old = TimestampUtil.now().minusMinutes(1);
+    when(outboxRepository.findAfter(anyLong(), anyInt()))
+        .thenReturn(Flux.just(event(1, old)), Flux.empty(), Flux.empty(), Flux.just(event(2, old)));
+
+    StepVerifier.create(changeFeedService.streamChanges(0L, 2, true).map(CustomerChange::getSequence))
+        .expectNext(1L, 2L)
+        .verifyComplete();
+  }
+
+  private CustomerOutboxEntity event(long sequence, LocalDateTime recordedAt) {
+    return event(sequence, recordedAt, recordedAt);
+  }
+
+  private CustomerOutboxEntity event(long sequence, LocalDateTime occurredAt, LocalDateTime recordedAt) {
+    return new CustomerOutboxEntity(sequence, sequence * 10, "DELETED", null, null, occurredAt, recordedAt);
+  }
+}
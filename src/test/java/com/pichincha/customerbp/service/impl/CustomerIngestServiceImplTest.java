@@ -0,0 +1,94 @@
+package com.pichincha.customerbp.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerBulkResult;
+import com.pichincha.common.infrastructure.input.adapter.rest.models.CustomerBulkResult.StatusEnum;
+import com.pichincha.customerbp.configuration.BulkIngestProperties;
+import com.pichincha.customerbp.configuration.PasswordHashingProperties;
+import com.pichincha.customerbp.configuration.ReadReplicaProperties;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.helper.CustomerCacheHelper;
+import com.pichincha.customerbp.helper.CustomerOutboxHelper;
+import com.pichincha.customerbp.helper.IdentificationFilterHelper;
+import com.pichincha.customerbp.helper.ReadRoutingHelper;
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+import com.pichincha.customerbp.service.PasswordHashService;
+import com.pichincha.customerbp.service.mapper.CustomerMapperImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CustomerIngestServiceImplTest {
+
+  private static final int BATCH_SIZE = 2;
+  private static final int RECORDS = 200;
+
+  private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+  private final TransactionalOperator transactionalOperator = mock(TransactionalOperator.class);
+  private final IdentificationFilterHelper identificationFilterHelper =
+      mock(IdentificationFilterHelper.class);
+  private final PasswordHashService passwordHashService = mock(PasswordHashService.class);
+  private final CustomerOutboxHelper outboxHelper = mock(CustomerOutboxHelper.class);
+  private final CustomerCacheHelper customerCacheHelper = mock(CustomerCacheHelper.class);
+  private final AtomicLong nextCustomerId = new AtomicLong();
+  private final CustomerIngestServiceImpl ingestService = new CustomerIngestServiceImpl(
+      customerRepository, new CustomerMapperImpl(),
+      Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(),
+      transactionalOperator, new BulkIngestProperties(BATCH_SIZE, Duration.ofMillis(200)),
+      identificationFilterHelper, passwordHashService, new PasswordHashingProperties(4, 1, 16),
+      outboxHelper, new ReadRoutingHelper(
+          new ReadReplicaProperties(false, null, null, null, null, Duration.ofSeconds(2), 10000),
+          new SimpleMeterRegistry(), new InMemoryCacheInvalidationRepository()), customerCacheHelper);
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldIngestUploadsLargerThanOneBatch() {
+    when(transactionalOperator.transactional(any(Mono.class)))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    when(passwordHashService.hash(anyString())).thenReturn(Mono.just("hash"));
+    when(customerCacheHelper.announce(anyLong(), anyString())).thenReturn(Mono.empty());
+    when(outboxHelper.recordCreations(anyList())).thenReturn(Mono.empty());
+    when(customerRepository.insertBatch(anyList())).thenAnswer(invocation -> Flux
+        .fromIterable((List<CustomerEntity>) invocation.getArgument(0))
+        .map(entity -> nextCustomerId.incrementAndGet())
+        .delaySubscription(Duration.ofMillis(nextCustomerId.get() == 0 ? 300 : 0)));
+
+    StepVerifier.create(ingestService.bulkCreateCustomers(Flux.range(0, RECORDS)
+        .map(this::customer)))
+        .recordWith(ArrayList::new)
+        .expectNextCount(RECORDS)
+        .consumeRecordedWith(results -> assertThat(results)
+            .extracting(CustomerBulkResult::getStatus)
+            .containsOnly(StatusEnum.CREATED))
+        .verifyComplete();
+    assertThat(nextCustomerId).hasValue(RECORDS);
+  }
+
+  private Object customer(int index) {
+    return Map.of("fullName", "Customer " + index, "gender", "F", "age", 30,
+        "identification", String.format("%010d", index), "address", "Quito",
+        "celular", "0999999999", "email", "customer" + index + "@mail.com",
+        "password", "secret", "active", true);
+  }
+}
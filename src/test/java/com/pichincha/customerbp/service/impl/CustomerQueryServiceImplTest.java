@@ -0,0 +1,131 @@
+package com.pichincha.customerbp.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.pichincha.customerbp.configuration.PaginationProperties;
+import com.pichincha.customerbp.configuration.ReadReplicaProperties;
+import com.pichincha.customerbp.domain.CustomerEntity;
+import com.pichincha.customerbp.domain.CustomerRevision;
+import com.pichincha.customerbp.domain.CustomerSearchCriteria;
+import com.pichincha.customerbp.domain.CustomerSearchPage;
+import com.pichincha.customerbp.helper.CustomerCacheHelper;
+import com.pichincha.customerbp.helper.CustomerLoaderHelper;
+import com.pichincha.customerbp.helper.IdentificationFilterHelper;
+import com.pichincha.customerbp.helper.ReadRoutingHelper;
+import com.pichincha.customerbp.repository.CustomerRepository;
+import com.pichincha.customerbp.repository.InMemoryCacheInvalidationRepository;
+import com.pichincha.customerbp.service.mapper.CustomerMapperImpl;
+import com.pichincha.customerbp.util.CursorUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class CustomerQueryServiceImplTest {
+
+  private static final CustomerSearchCriteria ACTIVE_ADULTS =
+      new CustomerSearchCriteria(true, 18, 40, null, "Ju", null);
+
+  private final CustomerRepository customerRepository = mock(CustomerRepository.class);
+  private final CustomerCacheHelper customerCacheHelper = mock(CustomerCacheHelper.class);
+  private final CustomerQueryServiceImpl queryService = new CustomerQueryServiceImpl(
+      customerRepository, new CustomerMapperImpl(), new PaginationProperties(100, 500, 256),
+      customerCacheHelper, mock(IdentificationFilterHelper.class), new ReadRoutingHelper(
+          new ReadReplicaProperties(false, null, null, null, null, Duration.ofSeconds(2), 10000),
+          new SimpleMeterRegistry(), new InMemoryCacheInvalidationRepository()), mock(CustomerLoaderHelper.class));
+
+  @Test
+  void shouldSelectAndExposeOnlyRequestedFields() {
+    when(customerRepository.search(eq(ACTIVE_ADULTS), anyCollection(), eq(0L), eq(3)))
+        .thenReturn(Flux.just(customer(1L, "Juan"), customer(2L, "Julia"), customer(3L, "Julio")));
+
+    CustomerSearchPage page = queryService.searchCustomers(ACTIVE_ADULTS, "fullName,age", 2, null)
+        .block();
+
+    verify(customerRepository).search(ACTIVE_ADULTS, List.of("customer_id", "name", "age"), 0L, 3);
+    assertThat(page.customers()).containsExactly(Map.of("fullName", "Juan", "age", 30),
+        Map.of("fullName", "Julia", "age", 30));
+    assertThat(page.nextCursor()).isEqualTo(CursorUtil.encode(2L));
+  }
+
+  @Test
+  void shouldRejectUnknownOrSensitiveFields() {
+    StepVerifier.create(queryService.searchCustomers(ACTIVE_ADULTS, "fullName,password", null, null))
+        .expectErrorSatisfies(error -> assertThat(((ResponseStatusException) error).getStatusCode())
+            .isEqualTo(HttpStatus.BAD_REQUEST))
+        .verify();
+    verifyNoInteractions(customerRepository);
+  }
+
+  @Test
+  void shouldReturnLastPageWithoutCursor() {
+    when(customerRepository.search(any(), anyCollection(), anyLong(), anyInt()))
+        .thenReturn(Flux.just(customer(5L, "Juana")));
+
+    StepVerifier.create(queryService.searchCustomers(ACTIVE_ADULTS, null, 10, CursorUtil.encode(4L)))
+        .assertNext(page -> {
+          assertThat(page.hasNext()).isFalse();
+          assertThat(page.customers().get(0)).containsEntry("customerId", 5L)
+              .doesNotContainKey("password");
+        })
+        .verifyComplete();
+  }
+
+  @Test
+  void shouldCapLimitAtConfiguredMaximum() {
+    when(customerRepository.search(any(), anyCollection(), anyLong(), anyInt())).thenReturn(Flux.empty());
+
+    queryService.searchCustomers(ACTIVE_ADULTS, null, 5000, null).block();
+
+    verify(customerRepository).search(eq(ACTIVE_ADULTS), anyCollection(), eq(0L), eq(501));
+  }
+
+  @Test
+  void shouldProbeOnlyTheRevisionOnCacheMiss() {
+    CustomerEntity revisionRow = new CustomerEntity();
+    revisionRow.setCustomerId(7L);
+    revisionRow.setVersion(3L);
+    revisionRow.setUpdatedAt(LocalDateTime.of(2025, 1, 15, 10, 20, 30));
+    when(customerCacheHelper.getIfPresent(7L)).thenReturn(Mono.empty());
+    when(customerRepository.findRevisionById(7L)).thenReturn(Mono.just(revisionRow));
+
+    CustomerRevision revision = queryService.getCustomerRevision(7).block();
+
+    assertThat(revision.version()).isEqualTo(3L);
+    assertThat(revision.updatedAt()).isEqualTo(Instant.parse("2025-01-15T10:20:30Z"));
+    assertThat(revision.matchesAny(ETag.parse(revision.eTag()))).isTrue();
+    assertThat(revision.matchesAny(ETag.parse("W/" + revision.eTag()))).isFalse();
+    verify(customerRepository, never()).findById(anyLong());
+  }
+
+  private CustomerEntity customer(Long customerId, String name) {
+    CustomerEntity entity = new CustomerEntity();
+    entity.setCustomerId(customerId);
+    entity.setName(name);
+    entity.setAge(30);
+    entity.setStatus(true);
+    return entity;
+  }
+}
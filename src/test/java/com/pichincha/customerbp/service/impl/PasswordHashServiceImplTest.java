@@ -0,0 +1,65 @@
+package com.pichincha.customerbp.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+class PasswordHashServiceImplTest {
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private final Scheduler scheduler = Schedulers.fromExecutorService(new ThreadPoolExecutor(1, 1,
+      0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1)), "test-hashing");
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+  private final PasswordHashServiceImpl hashService =
+      new PasswordHashServiceImpl(passwordEncoder, scheduler, meterRegistry);
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    scheduler.dispose();
+  }
+
+  @Test
+  void shouldHashOffTheCallerThread() {
+    String passwordHash = hashService.hash("secret").block();
+
+    assertThat(passwordHash).startsWith("$2a$04$");
+    assertThat(passwordEncoder.matches("secret", passwordHash)).isTrue();
+    assertThat(meterRegistry.get("customer.password.hashing").tag("operation", "hash").timer()
+        .count()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectWhenQueueIsFull() {
+    scheduler.schedule(this::awaitRelease);
+    scheduler.schedule(this::awaitRelease);
+
+    StepVerifier.create(hashService.hash("secret"))
+        .expectErrorSatisfies(error -> assertThat(((ResponseStatusException) error)
+            .getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE))
+        .verify();
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.pichincha.customerbp.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class RingBufferTest {
+
+  @Test
+  void shouldRejectOffersOnceFull() {
+    RingBuffer<Integer> buffer = new RingBuffer<>(3);
+
+    for (int i = 0; i < buffer.capacity(); i++) {
+      assertThat(buffer.offer(i)).isTrue();
+    }
+
+    assertThat(buffer.capacity()).isEqualTo(4);
+    assertThat(buffer.offer(99)).isFalse();
+    assertThat(buffer.poll()).isZero();
+    assertThat(buffer.offer(99)).isTrue();
+  }
+
+  @Test
+  void shouldNotLoseElementsWithConcurrentProducers() throws InterruptedException {
+    RingBuffer<Integer> buffer = new RingBuffer<>(1 << 16);
+    ExecutorService producers = Executors.newFixedThreadPool(4);
+    for (int producer = 0; producer < 4; producer++) {
+      int offset = producer * 10_000;
+      producers.execute(() -> {
+        for (int i = 0; i < 10_000; i++) {
+          buffer.offer(offset + i);
+        }
+      });
+    }
+    producers.shutdown();
+    assertThat(producers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    Set<Integer> drained = new HashSet<>();
+    Integer element;
+    while ((element = buffer.poll()) != null) {
+      drained.add(element);
+    }
+
+    assertThat(drained).hasSize(40_000);
+    assertThat(buffer.size()).isZero();
+  }
+}